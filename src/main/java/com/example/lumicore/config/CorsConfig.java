@@ -25,9 +25,11 @@ public class CorsConfig {
         ));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of(
-                "DNT","User-Agent","X-Requested-With","If-Modified-Since",
+                "DNT","User-Agent","X-Requested-With","If-Modified-Since","If-None-Match",
                 "Cache-Control","Content-Type","Range","Authorization"
         ));
+        // 조건부 GET 용 ETag 를 브라우저 클라이언트에서도 읽을 수 있도록
+        config.setExposedHeaders(List.of("ETag"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,93 @@
+package com.example.lumicore.config;
+
+import com.example.lumicore.jpa.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * primary / 읽기 레플리카 DataSource 구성
+ *
+ * @Transactional(readOnly = true) 로 시작한 트랜잭션은 readOnlyDataSource(레플리카)로,
+ * 나머지(쓰기, 트랜잭션 밖 조회, Flyway, Spring Batch 메타데이터)는 primary 로 간다.
+ * LazyConnectionDataSourceProxy 가 실제 연결을 첫 SQL 시점까지 미루므로
+ * 트랜잭션 시작 시 설정된 read-only 여부로 대상을 고를 수 있다.
+ *
+ * app.datasource.replica.urls 가 비어 있으면 모든 요청이 primary 로 간다 (기존 동작).
+ * 풀 메트릭은 hikaricp.connections.*{pool=primary|replica-N}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${app.datasource.replica.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replica.max-pool-size:10}")
+    private int replicaMaxPoolSize;
+
+    @Value("${app.datasource.replica.lag-check-enabled:true}")
+    private boolean lagCheckEnabled;
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+    /** 지연 확인 전에는 레플리카를 쓰지 않는다 (lag-check-enabled=false 면 바로 사용) */
+    @Bean
+    public ReplicaRoutingDataSource readOnlyDataSource(HikariDataSource primaryDataSource,
+                                                       DataSourceProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setMaximumPoolSize(replicaMaxPoolSize);
+            replica.setReadOnly(true);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, !lagCheckEnabled, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource readOnlyDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        if (!readOnlyDataSource.getReplicas().isEmpty()) {
+            proxy.setReadOnlyDataSource(readOnlyDataSource);
+        }
+        return proxy;
+    }
+}
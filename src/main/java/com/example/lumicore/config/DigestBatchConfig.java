@@ -1,37 +1,62 @@
 package com.example.lumicore.config;
 
-import com.example.lumicore.dto.digest.request.DigestRequestDto;
 import com.example.lumicore.service.DigestQueueService;
 import com.example.lumicore.service.DiaryService;
+import com.example.lumicore.service.batch.KafkaPartitionHandler;
+import com.example.lumicore.service.batch.PartitionThroughputListener;
+import com.example.lumicore.service.batch.UserRangePartitioner;
+import com.example.lumicore.service.ledger.DigestLedgerService;
+import com.example.lumicore.service.lock.SchedulerLockService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.beans.factory.annotation.Value;
 
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.UUID;
 
+@Slf4j
 @Configuration
 @EnableScheduling
 @RequiredArgsConstructor
@@ -43,64 +68,218 @@ public class DigestBatchConfig {
     private final DiaryService               diaryService;
     private final DigestQueueService         digestQueueService;
     private final ApplicationContext         applicationContext;
+    private final DataSource                 dataSource;
+    private final SchedulerLockService       schedulerLockService;
+    private final DigestLedgerService        digestLedgerService;
 
-    @Bean
-    @StepScope
-    public ItemReader<UUID> userIdReader() {
-        List<UUID> allUserIds = diaryService.getAllUserIds();
-        return new ListItemReader<>(allUserIds);
-    }
+    @Value("${app.digest.batch.user-page-size:500}")
+    private int userPageSize;
+
+    @Value("${app.digest.batch.grid-size:4}")
+    private int gridSize;
+
+    @Value("${app.digest.batch.remote.enabled:false}")
+    private boolean remoteEnabled;
+
+    @Value("${app.digest.batch.remote.topic:digest-partition}")
+    private String remoteTopic;
+
+    @Value("${app.digest.batch.remote.poll-interval-ms:5000}")
+    private long remotePollIntervalMs;
+
+    @Value("${app.digest.batch.remote.timeout-minutes:60}")
+    private long remoteTimeoutMinutes;
+
+    @Value("${app.digest.batch.launch-lease-minutes:360}")
+    private long launchLeaseMinutes;
 
+    @Value("${app.digest.batch.restart-enabled:true}")
+    private boolean restartEnabled;
+
+    @Value("${app.digest.batch.launch-threads:2}")
+    private int launchThreads;
+
+    /**
+     * 기간 안에 (삭제되지 않은) 다이어리를 쓴 사용자 id 를 user_id 순으로 페이지 조회
+     * - 파티션의 user_id 구간(UserRangePartitioner)만 읽는다
+     * - 페이지마다 마지막 user_id 이후만 읽어 메모리 사용량이 페이지 크기로 고정된다
+     * - 마지막 user_id 가 ExecutionContext 에 저장되어 실패한 Job 을 재시작하면 그 다음부터 읽는다
+     * - idx_diaries_user_created (user_id, created_at) 인덱스 사용
+     */
     @Bean
     @StepScope
-    public ItemProcessor<UUID, DigestRequestDto> digestProcessor(
+    public JdbcPagingItemReader<UUID> userIdReader(
             @Value("#{jobParameters['periodStart']}") String start,
-            @Value("#{jobParameters['periodEnd']}")   String end
+            @Value("#{jobParameters['periodEnd']}")   String end,
+            @Value("#{stepExecutionContext['minUserId']}") String minUserId,
+            @Value("#{stepExecutionContext['maxUserId']}") String maxUserId
     ) {
-        LocalDateTime periodStart = LocalDate.parse(start).atStartOfDay();
-        LocalDateTime periodEnd   = LocalDate.parse(end).atTime(LocalTime.MAX);
-
-        return userId -> {
-            var entries = diaryService.getEntriesForDigest(userId, periodStart, periodEnd);
-            return DigestRequestDto.builder()
-                    .id(userId.toString())
-                    .userLocale(diaryService.getUserLocale(userId))
-                    .entries(entries)
-                    .build();
-        };
+        MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
+        queryProvider.setSelectClause("DISTINCT user_id");
+        queryProvider.setFromClause("diaries");
+        queryProvider.setWhereClause("user_id IS NOT NULL AND deleted_at IS NULL "
+                + "AND created_at BETWEEN :periodStart AND :periodEnd "
+                + "AND user_id BETWEEN UNHEX(:minUserId) AND UNHEX(:maxUserId)");
+        queryProvider.setSortKeys(Map.of("user_id", Order.ASCENDING));
+
+        return new JdbcPagingItemReaderBuilder<UUID>()
+                .name("userIdReader")
+                .dataSource(dataSource)
+                .queryProvider(queryProvider)
+                .parameterValues(Map.of(
+                        "periodStart", LocalDate.parse(start).atStartOfDay(),
+                        "periodEnd",   LocalDate.parse(end).atTime(LocalTime.MAX),
+                        "minUserId",   minUserId,
+                        "maxUserId",   maxUserId))
+                .pageSize(userPageSize)
+                .rowMapper((rs, rowNum) -> toUuid(rs.getBytes("user_id")))
+                .build();
     }
 
+    /** BINARY(16) (Hibernate UUID 매핑) → UUID */
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * 청크(사용자 id 최대 100개) 단위로 다이어리·QA·사진을 IN 조회로 한 번에 읽어
+     * DigestRequestDto 를 만들고 큐로 전송 — 청크당 쿼리 수가 사용자 수와 무관하게 고정
+     *
+     * 스케줄 실행(lockName/fencingToken 파라미터가 있을 때)은 전송 전에 token 이 최신인지 확인해
+     * 잠금을 다른 pod 가 가져간 뒤의 늦은 전송을 막는다 (수동 실행은 확인하지 않음).
+     */
     @Bean
-    public ItemWriter<DigestRequestDto> digestItemWriter() {
-        // Chunk<DigestRequestDto>는 Iterable<DigestRequestDto>로 바로 전달 가능
-        return items -> digestQueueService.sendDigestRequests(items);
+    @StepScope
+    public ItemWriter<UUID> digestItemWriter(
+            @Value("#{jobParameters['periodStart']}")  String start,
+            @Value("#{jobParameters['periodEnd']}")    String end,
+            @Value("#{jobParameters['lockName']}")     String lockName,
+            @Value("#{jobParameters['fencingToken']}") Long fencingToken
+    ) {
+        LocalDate startDate = LocalDate.parse(start);
+        LocalDate endDate   = LocalDate.parse(end);
+        LocalDateTime periodStart = startDate.atStartOfDay();
+        LocalDateTime periodEnd   = endDate.atTime(LocalTime.MAX);
+
+        return chunk -> {
+            if (lockName != null && fencingToken != null
+                    && !schedulerLockService.isCurrent(lockName, fencingToken)) {
+                throw new IllegalStateException(
+                        "fencing token 만료: " + lockName + " token=" + fencingToken + " (다른 인스턴스가 잠금 획득)");
+            }
+            // 완료됐거나 응답 대기 중인 사용자는 다시 보내지 않음 (digest_ledger)
+            List<UUID> targets = digestLedgerService.claim(chunk.getItems(), startDate, endDate);
+            if (targets.isEmpty()) {
+                return;
+            }
+            Map<String, String> rejected;
+            try {
+                rejected = digestQueueService.sendDigestRequests(
+                        diaryService.getDigestRequests(targets, periodStart, periodEnd));
+            } catch (RuntimeException e) {
+                // 요청 생성 또는 putMessages 호출 자체 실패 → 청크 전체를 다시 보낼 대상으로
+                Map<UUID, String> reasons = new LinkedHashMap<>();
+                targets.forEach(userId -> reasons.put(userId, e.getMessage()));
+                digestLedgerService.markFailed(reasons, startDate, endDate);
+                throw e;
+            }
+            if (!rejected.isEmpty()) {
+                // 건별 실패만 FAILED (나머지는 REQUESTED 유지), Step 을 실패시켜 restartFailed 가 재시도
+                Map<UUID, String> reasons = new LinkedHashMap<>();
+                rejected.forEach((userId, reason) -> reasons.put(UUID.fromString(userId), reason));
+                digestLedgerService.markFailed(reasons, startDate, endDate);
+                throw new IllegalStateException("다이제스트 요청 " + rejected.size() + "건 큐 전송 실패");
+            }
+        };
     }
 
     @Bean
     public Step digestStep(
             ItemReader<UUID> reader,
-            ItemProcessor<UUID, DigestRequestDto> processor,
-            ItemWriter<DigestRequestDto> writer
+            ItemWriter<UUID> writer
     ) {
         return new StepBuilder("digestStep", jobRepository)
-                .<UUID, DigestRequestDto>chunk(100, transactionManager)
+                .<UUID, UUID>chunk(100, transactionManager)
                 .reader(reader)
-                .processor(processor)
                 .writer(writer)
                 .build();
     }
 
+    /** 파티션 실행 스레드 (로컬 파티션 / 원격 파티션 워커 공용) */
+    @Bean
+    public ThreadPoolTaskExecutor digestPartitionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("digest-partition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 정기·재시작 Job 실행 스레드
+     * JobLauncher 는 동기라 @Scheduled 스레드에서 바로 돌리면 Job 이 끝날 때까지 다른 스케줄이 멈춘다.
+     */
     @Bean
-    public Job weeklyDigestJob(Step digestStep) {
+    public ThreadPoolTaskExecutor digestLaunchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(launchThreads);
+        executor.setMaxPoolSize(launchThreads);
+        executor.setQueueCapacity(8);
+        executor.setThreadNamePrefix("digest-launch-");
+        return executor;
+    }
+
+    /**
+     * remote.enabled=false: 이 pod 의 스레드 gridSize 개로 파티션 실행
+     * remote.enabled=true : Kafka 로 레플리카들(DigestPartitionWorker)에 분배
+     */
+    @Bean
+    public PartitionHandler digestPartitionHandler(
+            Step digestStep,
+            ThreadPoolTaskExecutor digestPartitionExecutor,
+            KafkaTemplate<String, String> kafkaTemplate,
+            ObjectMapper objectMapper,
+            JobExplorer jobExplorer
+    ) {
+        if (remoteEnabled) {
+            return new KafkaPartitionHandler(kafkaTemplate, objectMapper, jobExplorer, jobRepository,
+                    remoteTopic, "digestStep", gridSize,
+                    Duration.ofMillis(remotePollIntervalMs), Duration.ofMinutes(remoteTimeoutMinutes));
+        }
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(digestStep);
+        handler.setTaskExecutor(digestPartitionExecutor);
+        handler.setGridSize(gridSize);
+        return handler;
+    }
+
+    /**
+     * 사용자 id 구간별 파티션 — 파티션마다 별도 StepExecution(digestStep:partitionN)으로
+     * 진행 상황(read/write count)과 reader 위치가 JobRepository 에 남고,
+     * 재시작하면 완료되지 않은 파티션만 이어서 실행된다.
+     */
+    @Bean
+    public Step digestManagerStep(PartitionHandler digestPartitionHandler) {
+        return new StepBuilder("digestManagerStep", jobRepository)
+                .partitioner("digestStep", new UserRangePartitioner())
+                .partitionHandler(digestPartitionHandler)
+                .listener(new PartitionThroughputListener(gridSize))
+                .build();
+    }
+
+    @Bean
+    public Job weeklyDigestJob(Step digestManagerStep) {
         return new JobBuilder("weeklyDigestJob", jobRepository)
-                .start(digestStep)
+                .start(digestManagerStep)
                 .build();
     }
 
     @Bean
-    public Job monthlyDigestJob(Step digestStep) {
+    public Job monthlyDigestJob(Step digestManagerStep) {
         return new JobBuilder("monthlyDigestJob", jobRepository)
-                .start(digestStep)
+                .start(digestManagerStep)
                 .build();
     }
 
@@ -108,38 +287,109 @@ public class DigestBatchConfig {
      * 매주 월요일 02:00에 이전 주(月~日) 범위로 Batch 실행
      */
     @Scheduled(cron = "0 0 2 * * MON")
-    public void runWeekly() throws Exception {
-        LocalDate today = LocalDate.now();
-        LocalDate end   = today.minusWeeks(1).with(DayOfWeek.SUNDAY);
-        LocalDate start = end.minusDays(6);
-
-        JobParameters params = new JobParametersBuilder()
-                .addString("periodStart", start.toString())
-                .addString("periodEnd",   end.toString())
-                .addLong("run.id",        System.currentTimeMillis())
-                .toJobParameters();
-
-        Job job = applicationContext.getBean("weeklyDigestJob", Job.class);
-        jobLauncher.run(job, params);
+    public void runWeekly() {
+        LocalDate[] period = weeklyPeriod();
+        launchOnce("weeklyDigestJob", period[0], period[1]);
     }
 
     /**
      * 매월 1일 03:00에 이전 월(1일~말일) 범위로 Batch 실행
      */
     @Scheduled(cron = "0 0 3 1 * *")
-    public void runMonthly() throws Exception {
-        LocalDate first     = LocalDate.now().withDayOfMonth(1);
-        LocalDate prevMonth = first.minusMonths(1);
-        LocalDate start     = prevMonth.withDayOfMonth(1);
-        LocalDate end       = prevMonth.withDayOfMonth(prevMonth.lengthOfMonth());
+    public void runMonthly() {
+        LocalDate[] period = monthlyPeriod();
+        launchOnce("monthlyDigestJob", period[0], period[1]);
+    }
 
-        JobParameters params = new JobParametersBuilder()
+    /**
+     * 직전 기간 Job 이 FAILED / STOPPED 로 끝났으면 같은 파라미터로 재시작
+     * (정규 cron 은 기간마다 한 번만 울리므로 재시작은 이 스케줄이 담당한다)
+     * - 재시작은 완료된 파티션을 건너뛰고, digest_ledger 로 이미 보낸 사용자도 다시 보내지 않는다
+     * - 아직 실행되지 않았거나 실행 중(STARTED)인 기간은 건드리지 않는다
+     *   (pod 가 죽어 STARTED 로 남은 실행은 JobRepository 에서 FAILED 로 정리한 뒤 재시작됨)
+     */
+    @Scheduled(cron = "${app.digest.batch.restart-cron:0 30 * * * *}")
+    public void restartFailed() {
+        if (!restartEnabled) {
+            return;
+        }
+        LocalDate[] weekly = weeklyPeriod();
+        restartIfFailed("weeklyDigestJob", weekly[0], weekly[1]);
+        LocalDate[] monthly = monthlyPeriod();
+        restartIfFailed("monthlyDigestJob", monthly[0], monthly[1]);
+    }
+
+    private void restartIfFailed(String jobName, LocalDate start, LocalDate end) {
+        JobExecution last = jobRepository.getLastJobExecution(jobName, periodParameters(start, end).toJobParameters());
+        if (last == null
+                || (last.getStatus() != BatchStatus.FAILED && last.getStatus() != BatchStatus.STOPPED)) {
+            return;
+        }
+        log.info("{} 재시작: 기간 {} ~ {}, 이전 실행 {} (jobExecutionId={})",
+                jobName, start, end, last.getStatus(), last.getId());
+        launchOnce(jobName, start, end);
+    }
+
+    /** 이전 주 월요일 ~ 일요일 */
+    private static LocalDate[] weeklyPeriod() {
+        LocalDate end = LocalDate.now().minusWeeks(1).with(DayOfWeek.SUNDAY);
+        return new LocalDate[] {end.minusDays(6), end};
+    }
+
+    /** 이전 월 1일 ~ 말일 */
+    private static LocalDate[] monthlyPeriod() {
+        LocalDate prevMonth = LocalDate.now().withDayOfMonth(1).minusMonths(1);
+        return new LocalDate[] {prevMonth.withDayOfMonth(1), prevMonth.withDayOfMonth(prevMonth.lengthOfMonth())};
+    }
+
+    /** 식별 파라미터 — 기간만 (같은 기간은 한 JobInstance) */
+    private static JobParametersBuilder periodParameters(LocalDate start, LocalDate end) {
+        return new JobParametersBuilder()
                 .addString("periodStart", start.toString())
-                .addString("periodEnd",   end.toString())
-                .addLong("run.id",        System.currentTimeMillis())
+                .addString("periodEnd",   end.toString());
+    }
+
+    /**
+     * 레플리카마다 cron 이 울리므로 기간별 scheduler_lock(jobName:periodStart)을 잡은 pod 만 실행한다.
+     * - 식별 파라미터가 기간뿐이라 같은 기간은 한 JobInstance 가 되고, 실패한 실행은 restartFailed 가 재시작한다
+     * - 잠금 이름·fencing token 은 비식별 파라미터로 넘겨 writer 가 전송 전에 확인한다
+     * - 잠금 획득부터 반납까지 digestLaunchExecutor 스레드에서 실행하고, 스케줄 스레드는 바로 돌아간다
+     * - JobLauncher 는 동기 실행이므로 Job 이 끝나면(성공·실패 모두) 잠금을 바로 반납한다.
+     *   launch-lease-minutes 는 pod 가 실행 중 죽었을 때 다른 pod 가 가져가기까지의 상한이다
+     * 다른 pod 는 원격 파티셔닝을 켠 경우 파티션 워커로만 참여한다.
+     */
+    private void launchOnce(String jobName, LocalDate start, LocalDate end) {
+        try {
+            digestLaunchExecutor().execute(() -> launch(jobName, start, end));
+        } catch (TaskRejectedException e) {
+            log.warn("{} 실행 요청 거절: 실행 대기열이 가득 참 (기간 {} ~ {})", jobName, start, end);
+        }
+    }
+
+    private void launch(String jobName, LocalDate start, LocalDate end) {
+        String lockName = jobName + ":" + start;
+        OptionalLong token = schedulerLockService.acquire(lockName, Duration.ofMinutes(launchLeaseMinutes));
+        if (token.isEmpty()) {
+            log.info("{} 건너뜀: 다른 인스턴스가 실행", lockName);
+            return;
+        }
+        JobParameters params = periodParameters(start, end)
+                .addString("lockName",     lockName, false)
+                .addLong("fencingToken",   token.getAsLong(), false)
                 .toJobParameters();
 
-        Job job = applicationContext.getBean("monthlyDigestJob", Job.class);
-        jobLauncher.run(job, params);
+        Job job = applicationContext.getBean(jobName, Job.class);
+        try {
+            JobExecution execution = jobLauncher.run(job, params);
+            log.info("{} 종료: {} (jobExecutionId={})", lockName, execution.getStatus(), execution.getId());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("{} 건너뜀: 이미 완료된 기간", lockName);
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.info("{} 건너뜀: 이미 실행 중", lockName);
+        } catch (Exception e) {
+            log.error("{} 실행 실패", lockName, e);
+        } finally {
+            schedulerLockService.release(lockName);
+        }
     }
 }
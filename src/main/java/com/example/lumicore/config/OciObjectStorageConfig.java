@@ -1,6 +1,6 @@
 package com.example.lumicore.config;
 
-
+import com.oracle.bmc.ClientConfiguration;
 import com.oracle.bmc.ConfigFileReader;
 import com.oracle.bmc.Region;
 import com.oracle.bmc.auth.AuthenticationDetailsProvider;
@@ -11,19 +11,34 @@ import com.oracle.bmc.objectstorage.transfer.UploadConfiguration;
 import com.oracle.bmc.objectstorage.transfer.UploadManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * OCI Object Storage 클라이언트 및 UploadManager 빈 등록
+ * app.objectstorage.adapter=oci(기본값) 일 때만 ~/.oci/config 를 읽는다 (filesystem / memory 는 OCI 자격 증명 불필요).
  */
 @Configuration
+@ConditionalOnProperty(name = "app.objectstorage.adapter", havingValue = "oci", matchIfMissing = true)
 @Slf4j
 public class OciObjectStorageConfig {
 
     @Value("${oci.configFilePath}")
     private String configFilePath;
 
+    @Value("${app.upload.part-size-mib:8}")
+    private long uploadPartSizeMib;
+
+    @Value("${app.upload.multipart-threshold-mib:8}")
+    private long multipartThresholdMib;
+
+    @Value("${app.objectstorage.oci.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${app.objectstorage.oci.read-timeout-ms:10000}")
+    private int readTimeoutMs;
+
     @Bean
     public ObjectStorage objectStorage() throws Exception {
         // ~/.oci/config 의 DEFAULT 프로파일 읽기
@@ -38,20 +53,30 @@ public class OciObjectStorageConfig {
         String regionStr = config.get("region");
         Region region = Region.fromRegionId(regionStr);
         
-        log.info("OCI ObjectStorage 클라이언트 생성: region={}", region);
+        log.info("OCI ObjectStorage 클라이언트 생성: region={}, connectTimeout={}ms, readTimeout={}ms",
+                region, connectTimeoutMs, readTimeoutMs);
+
+        // 응답 없는 호출이 PAR 발급 스레드를 무기한 붙잡지 않도록 소켓 타임아웃 지정
+        ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+                .connectionTimeoutMillis(connectTimeoutMs)
+                .readTimeoutMillis(readTimeoutMs)
+                .build();
 
         return ObjectStorageClient.builder()
                 .region(region)  // ← Config 파일의 region 사용
+                .configuration(clientConfiguration)
                 .build(provider);
     }
 
     @Bean
     public UploadManager uploadManager(ObjectStorage objectStorage) {
-        // 멀티파트 & 병렬 업로드 허용
+        // 멀티파트 & 병렬 업로드 허용 — 스트림 업로드는 파트 단위로 메모리에 버퍼링되므로 파트 크기를 작게 유지
         UploadConfiguration configuration = UploadConfiguration.builder()
                 .allowMultipartUploads(true)
                 .allowParallelUploads(true)
+                .minimumLengthForMultipartUpload(multipartThresholdMib)
+                .lengthPerUploadPart(uploadPartSizeMib)
                 .build();
         return new UploadManager(objectStorage, configuration);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.example.lumicore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PAR 발급(ParIssuer)용 I/O 바운드 풀 — 어떤 ObjectStoragePort 어댑터에서도 사용
+ */
+@Configuration
+public class ParIssuerConfig {
+
+    @Value("${app.par.issuer.threads:16}")
+    private int parIssuerThreads;
+
+    @Value("${app.par.issuer.queue-capacity:256}")
+    private int parIssuerQueueCapacity;
+
+    /**
+     * PAR 병렬 발급용 고정 크기 풀
+     * 큐가 가득 차면 거절한다 (ParIssuer 가 해당 건을 ParResult.failure 로 돌려줌).
+     * 호출 스레드(요청·WebSocket 스레드)에서 타임아웃 없이 실행되지 않도록 CallerRuns 를 쓰지 않는다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService parIssuerExecutor() {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                parIssuerThreads,
+                parIssuerThreads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parIssuerQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "par-issuer-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
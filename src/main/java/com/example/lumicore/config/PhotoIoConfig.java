@@ -0,0 +1,46 @@
+package com.example.lumicore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 후처리(EXIF Range GET, 중복 판별 HEAD)용 I/O 풀
+ * PAR 발급 풀(parIssuerExecutor)과 분리해 조회 세션 지연에 영향을 주지 않도록 한다.
+ */
+@Configuration
+public class PhotoIoConfig {
+
+    @Value("${app.photo-io.threads:8}")
+    private int threads;
+
+    @Value("${app.photo-io.queue-capacity:128}")
+    private int queueCapacity;
+
+    /**
+     * 고정 크기 풀
+     * 큐가 가득 차면 작업을 거절하며, 거절된 사진은 EXIF·중복 판별 없이 AI 분석으로 넘어간다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService photoIoExecutor() {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "photo-io-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
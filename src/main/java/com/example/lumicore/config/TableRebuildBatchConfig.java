@@ -0,0 +1,95 @@
+package com.example.lumicore.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UUID 기본키 테이블의 클러스터드 인덱스 온라인 재구성 Job
+ *
+ * app.id.time-ordered 를 켠 뒤 1회 실행한다. 랜덤 v4 키 삽입으로 쪼개지고 반쯤 빈 페이지를
+ * ALTER TABLE ... ENGINE=InnoDB (ALGORITHM=INPLACE, LOCK=NONE) 로 다시 채워 조각화만 줄인다.
+ * 읽기/쓰기는 재구성 중에도 계속된다.
+ *
+ * 기존 id 값은 바꾸지 않는다 (API 경로·Kafka 키·object 키 diary/{diaryId}/ 에 노출된 값).
+ * 따라서 키 순서는 그대로이고, 기존 v4 키가 키 공간 전체에 흩어져 있는 동안에는 새 UUIDv7 row 도
+ * 그 사이 페이지에 들어갈 수 있다 (끝 페이지 append 효과는 v7 row 비중이 커질수록 나타남).
+ * 테이블마다 Step 을 나눠 어느 테이블에서 실패했는지 Job 이력에 남는다.
+ * 재구성 전후 data/index 크기(bytes)는 로그와 Step ExecutionContext 에 남긴다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TableRebuildBatchConfig {
+
+    /** 쓰기가 많은 UUID 기본키 테이블 (SQL 에 그대로 들어가므로 고정 목록만 허용) */
+    private static final List<String> TABLES = List.of("diaries", "diary_photos", "diary_qa", "digest_entries");
+
+    private static final String SIZE_SQL =
+            "SELECT data_length, index_length FROM information_schema.TABLES "
+                    + "WHERE table_schema = DATABASE() AND table_name = ?";
+
+    private final JobRepository              jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate               jdbcTemplate;
+
+    @Bean
+    public Job tableRebuildJob() {
+        SimpleJobBuilder builder = new JobBuilder("tableRebuildJob", jobRepository)
+                .start(rebuildStep(TABLES.get(0)));
+        for (String table : TABLES.subList(1, TABLES.size())) {
+            builder = builder.next(rebuildStep(table));
+        }
+        return builder.build();
+    }
+
+    private Step rebuildStep(String table) {
+        return new StepBuilder("tableRebuildStep." + table, jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Map<String, Object> before = sizeOf(table);
+                    long start = System.nanoTime();
+
+                    jdbcTemplate.execute("ALTER TABLE " + table + " ENGINE=InnoDB, ALGORITHM=INPLACE, LOCK=NONE");
+
+                    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                    Map<String, Object> after = sizeOf(table);
+                    log.info("테이블 재구성 완료: {} ({}ms) data {} → {}, index {} → {}",
+                            table, elapsedMs,
+                            before.get("data_length"), after.get("data_length"),
+                            before.get("index_length"), after.get("index_length"));
+
+                    ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+                    context.putLong("elapsedMs", elapsedMs);
+                    context.putLong("dataBytesBefore", toLong(before.get("data_length")));
+                    context.putLong("dataBytesAfter", toLong(after.get("data_length")));
+                    context.putLong("indexBytesBefore", toLong(before.get("index_length")));
+                    context.putLong("indexBytesAfter", toLong(after.get("index_length")));
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /** information_schema 통계는 지연 갱신되므로 ANALYZE 후 조회 */
+    private Map<String, Object> sizeOf(String table) {
+        jdbcTemplate.queryForList("ANALYZE TABLE " + table);
+        return jdbcTemplate.queryForMap(SIZE_SQL, table);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.lumicore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 썸네일 생성(디코딩·리사이즈)용 CPU 바운드 풀
+ */
+@Configuration
+public class ThumbnailConfig {
+
+    @Value("${app.thumbnail.threads:0}")
+    private int threads;
+
+    @Value("${app.thumbnail.queue-capacity:64}")
+    private int queueCapacity;
+
+    /**
+     * 코어 수 이하의 고정 크기 풀
+     * 큐가 가득 차면 작업을 거절하며, 거절된 사진은 썸네일 없이 원본 URL 로 대체된다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService thumbnailExecutor() {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                size,
+                size,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.lumicore.controller;
 
+import com.example.lumicore.dto.batch.PartitionBenchmarkResultDto;
+import com.example.lumicore.service.batch.DigestPartitionBenchmark;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
@@ -8,7 +10,9 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 //Batch 작동 테스트용 컨트롤러
 @RestController
@@ -19,6 +23,8 @@ public class BatchController {
     private final JobLauncher jobLauncher;
     private final Job weeklyDigestJob;
     private final Job monthlyDigestJob;
+    private final Job tableRebuildJob;
+    private final DigestPartitionBenchmark digestPartitionBenchmark;
 
     @GetMapping("/weekly")
     public ResponseEntity<String> runWeeklyManually(
@@ -63,4 +69,45 @@ public class BatchController {
                     .body("Batch 실행 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /** UUID 기본키 테이블 온라인 재구성 (app.id.time-ordered 전환 후 1회) */
+    @GetMapping("/table-rebuild")
+    public ResponseEntity<String> runTableRebuild() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("run.id", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncher.run(tableRebuildJob, params);
+            return ResponseEntity.ok("Table rebuild batch launched");
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("Batch 실행 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * grid-size 별 다이제스트 파티션 처리량 비교 (큐 전송 없음, 순서대로 실행)
+     * 예) /core/batch/digest-benchmark?start=2025-06-01&end=2025-06-30&gridSizes=1,1,2,4,8
+     * gridSizes 는 app.digest.batch.benchmark.max-grid-size 이하만 허용 (초과 시 400)
+     */
+    @GetMapping("/digest-benchmark")
+    public ResponseEntity<?> runDigestBenchmark(
+            @RequestParam("start") String start,
+            @RequestParam("end")   String end,
+            @RequestParam(value = "gridSizes", defaultValue = "1,2,4,8") List<Integer> gridSizes
+    ) {
+        try {
+            List<PartitionBenchmarkResultDto> results =
+                    digestPartitionBenchmark.run(LocalDate.parse(start), LocalDate.parse(end), gridSizes);
+            return ResponseEntity.ok(results);
+        } catch (DateTimeParseException dte) {
+            return ResponseEntity.badRequest().body("날짜 형식이 잘못되었습니다. YYYY-MM-DD로 입력해주세요.");
+        } catch (IllegalArgumentException iae) {
+            return ResponseEntity.badRequest().body(iae.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("Batch 실행 실패: " + e.getMessage());
+        }
+    }
+}
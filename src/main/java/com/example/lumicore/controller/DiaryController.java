@@ -1,17 +1,24 @@
 package com.example.lumicore.controller;
 
 
+import com.example.lumicore.dto.diary.DiaryPageDto;
 import com.example.lumicore.dto.diary.DiaryResponseDto;
 import com.example.lumicore.dto.diary.DiarySummaryDto;
 import com.example.lumicore.dto.question.DiaryAnswerRequestDto;
 import com.example.lumicore.service.DiaryService;
+import com.example.lumicore.service.ResponseETags;
+import com.example.lumicore.vo.DiaryListVersionVo;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -20,6 +27,10 @@ import java.util.UUID;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final ResponseETags responseETags;
+
+    @Value("${app.diary.bulk-delete.max-ids:500}")
+    private int maxBulkDeleteIds;
 
 
     @PostMapping("/answers")
@@ -31,10 +42,19 @@ public class DiaryController {
     }
 
     @GetMapping("/{diaryId}")
-    public ResponseEntity<DiaryResponseDto> getDiary(@PathVariable UUID diaryId) {
+    public ResponseEntity<DiaryResponseDto> getDiary(@PathVariable UUID diaryId, WebRequest request) {
         try {
-            DiaryResponseDto dto = diaryService.getDiary(diaryId);
-            return ResponseEntity.ok(dto);
+            // revision 만 먼저 조회 → 같으면 엔티티 로딩·URL 발급 없이 304
+            long revision = diaryService.getDiaryRevision(diaryId);
+            String eTag = responseETags.diary(revision);
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            DiaryResponseDto dto = diaryService.getDiary(diaryId, revision);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(responseETags.cacheControl())
+                    .body(dto);
         } catch (EntityNotFoundException e) {
             // 다이어리가 없으면 404
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -49,13 +69,57 @@ public class DiaryController {
         return ResponseEntity.ok().build();
     }
 
+    /** 여러 다이어리 일괄 삭제 — body: ["diaryId", ...] */
+    @DeleteMapping
+    public ResponseEntity<Void> deleteDiaries(@RequestBody List<UUID> diaryIds) {
+        Set<UUID> ids = new LinkedHashSet<>(diaryIds);
+        if (ids.isEmpty() || ids.size() > maxBulkDeleteIds) {
+            return ResponseEntity.badRequest().build();
+        }
+        diaryService.deleteDiaries(ids);
+        return ResponseEntity.ok().build();
+    }
+
+    /** 커서 기반 목록 (?limit=&cursor=) — limit 이 없으면 아래 전체 목록 API */
+    @GetMapping(value = "/user/{userId}", params = "limit")
+    public ResponseEntity<DiaryPageDto> getDiaryPage(@PathVariable UUID userId,
+                                                     @RequestParam int limit,
+                                                     @RequestParam(required = false) String cursor,
+                                                     WebRequest request) {
+        try {
+            String eTag = responseETags.diaryList(diaryService.getDiaryListVersion(userId).fingerprint());
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(responseETags.cacheControl())
+                    .body(diaryService.getDiaryPage(userId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<DiarySummaryDto>> getDiariesByUser(@PathVariable UUID userId) throws Exception {
-        List<DiarySummaryDto> list = diaryService.getDiariesByUser(userId);
-        if (list.isEmpty()) {
+    public ResponseEntity<List<DiarySummaryDto>> getDiariesByUser(@PathVariable UUID userId,
+                                                                   WebRequest request) throws Exception {
+        DiaryListVersionVo version = diaryService.getDiaryListVersion(userId);
+        if (version.getCount() == 0) {
             // Exception handling: 404 Not Found
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(list);
+        String eTag = responseETags.diaryList(version.fingerprint());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        List<DiarySummaryDto> list = diaryService.getDiariesByUser(userId, version);
+        if (list.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(responseETags.cacheControl())
+                .body(list);
     }
 }
@@ -5,9 +5,11 @@ import com.example.lumicore.dto.digest.DigestSummaryDto;
 import com.example.lumicore.dto.digest.response.DigestResponseDto;
 import com.example.lumicore.jpa.entity.Digest;
 import com.example.lumicore.service.DigestService;
+import com.example.lumicore.service.ResponseETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.client.RestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +23,7 @@ import java.util.UUID;
 public class DigestController {
 
     private final DigestService digestService;
+    private final ResponseETags responseETags;
     private static final Logger log = LoggerFactory.getLogger(DigestController.class);
 
     /**
@@ -69,10 +72,19 @@ public class DigestController {
 
     @GetMapping("/{digestId}")
     public ResponseEntity<DigestDetailDto> getDetails(
-            @PathVariable UUID digestId
+            @PathVariable UUID digestId,
+            WebRequest request
     ) {
+        // 버전만 먼저 조회 → 같으면 엔티티 로딩·URL 발급 없이 304
+        String eTag = responseETags.digest(digestService.getDigestVersion(digestId).fingerprint());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         DigestDetailDto dto = digestService.getDigestDetails(digestId);
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(responseETags.cacheControl())
+                .body(dto);
     }
 
 
@@ -1,16 +1,28 @@
 package com.example.lumicore.controller;
 
+import com.example.lumicore.dto.uploadSession.IngestResponse;
 import com.example.lumicore.dto.uploadSession.UploadParRequest;
 import com.example.lumicore.dto.uploadSession.UploadSessionResponse;
+import com.example.lumicore.service.ImageProxyService;
 import com.example.lumicore.service.ImageService;
+import com.example.lumicore.service.SignedImageUrlService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/core/images")
 @RequiredArgsConstructor
@@ -19,6 +31,8 @@ import org.springframework.web.bind.annotation.*;
 public class ImageController {
 
     private final ImageService imageService;
+    private final ImageProxyService imageProxyService;
+    private final SignedImageUrlService signedImageUrlService;
 
     /**
      * POST /core/images/session
@@ -40,4 +54,70 @@ public class ImageController {
             return ResponseEntity.status(500).build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * POST /core/images/{diaryId}/upload?fileName=a.jpg
+     * body: 이미지 원본 바이트 (Content-Type: image/*, Content-Length 필수)
+     * → PAR 로 직접 PUT 할 수 없는 클라이언트용. 서버가 스트림을 그대로 Object Storage 에 멀티파트 업로드한다.
+     */
+    @Operation(
+            summary = "서버 경유 사진 업로드",
+            description = "요청 본문을 임시 파일 없이 Object Storage 로 스트리밍 업로드하고 DiaryPhoto 를 등록합니다. "
+                    + "diaryId 는 fileNames 없이 /core/images/session 을 호출해 받습니다."
+    )
+    @PostMapping("/{diaryId}/upload")
+    public ResponseEntity<IngestResponse> uploadPhoto(
+            @PathVariable UUID diaryId,
+            @RequestParam("fileName") String fileName,
+            HttpServletRequest request) {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED).build();
+        }
+        try {
+            IngestResponse resp = imageService.ingestPhoto(
+                    diaryId, fileName, request.getContentType(), contentLength, request.getInputStream());
+            return ResponseEntity.ok(resp);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        } catch (Exception e) {
+            log.error("서버 경유 업로드 실패: diaryId={}, fileName={}", diaryId, fileName, e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+
+    /**
+     * GET /core/images/{photoId}?[variant=thumb&]exp=...&sig=...
+     * → 서명 검증 후 Object Storage 의 사진 본문을 스트리밍 (Range / 조건부 요청 지원)
+     */
+    @Operation(
+            summary = "사진 프록시",
+            description = "HMAC 서명 URL 을 검증한 뒤 사진 원본(variant=thumb 이면 썸네일)을 스트리밍합니다. Range, If-None-Match, If-Modified-Since 를 지원합니다."
+    )
+    @GetMapping("/{photoId}")
+    public void getPhoto(
+            @PathVariable UUID photoId,
+            @RequestParam(value = "variant", required = false) String variant,
+            @RequestParam("exp") long expires,
+            @RequestParam("sig") String sig,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!signedImageUrlService.verify(photoId, variant, expires, sig)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        try {
+            boolean thumbnail = SignedImageUrlService.VARIANT_THUMBNAIL.equals(variant);
+            imageProxyService.stream(photoId, thumbnail, expires, range, ifNoneMatch,
+                    request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE), response);
+        } catch (EntityNotFoundException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+        }
+    }
+}
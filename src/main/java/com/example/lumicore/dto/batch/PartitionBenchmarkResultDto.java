@@ -0,0 +1,20 @@
+package com.example.lumicore.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * grid-size 1회 실행 결과 (DigestPartitionBenchmark)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionBenchmarkResultDto {
+
+    private int gridSize;
+    private long users;
+    private long elapsedMs;
+    private double usersPerSecond;
+    private String status;
+}
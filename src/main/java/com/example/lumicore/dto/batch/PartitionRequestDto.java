@@ -0,0 +1,19 @@
+package com.example.lumicore.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원격 파티션 실행 요청 (digest-partition 토픽)
+ * 워커는 JobRepository 에서 stepExecutionId 로 실행 정보를 읽어 stepName 의 Step 을 실행한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionRequestDto {
+
+    private long jobExecutionId;
+    private long stepExecutionId;
+    private String stepName;
+}
@@ -0,0 +1,15 @@
+package com.example.lumicore.dto.diary;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class DiaryPageDto {
+
+    private List<DiarySummaryDto> items;
+    private String nextCursor;   // 마지막 페이지면 null
+
+}
@@ -1,15 +1,28 @@
 package com.example.lumicore.dto.readSession;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 
 /**
  * 단일 이미지의 읽기용 PAR 정보
  */
 @Data
+@Builder
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ImageData {
     private String id;
     private String url;
+    private String objectName;  // prefix PAR 모드에서 baseUri 뒤에 붙일 object 이름
+    private String error;       // PAR 발급 실패 사유 (성공 시 null)
+    private String capturedAt;  // EXIF 촬영 시각 "yyyy-MM-dd HH:mm:ss" (없으면 생략)
+    private Double latitude;    // EXIF GPS 위도
+    private Double longitude;   // EXIF GPS 경도
+
+    public ImageData(String id, String url) {
+        this(id, url, null, null, null, null, null);
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.lumicore.dto.readSession;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -10,12 +11,19 @@ import java.util.List;
  * - diaryId
  * - userLocale
  * - 각 이미지별 READ-PAR 리스트
+ * - baseUri: 다이어리 prefix 단위 READ-PAR (prefix 모드일 때만)
  */
 
 @Data
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ReadSessionResponse {
     private String id;
     private List<ImageData> images;
     private String userLocale;
-}
\ No newline at end of file
+    private String baseUri;
+
+    public ReadSessionResponse(String id, List<ImageData> images, String userLocale) {
+        this(id, images, userLocale, null);
+    }
+}
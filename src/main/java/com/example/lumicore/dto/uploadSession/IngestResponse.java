@@ -0,0 +1,25 @@
+package com.example.lumicore.dto.uploadSession;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 서버 경유 업로드 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestResponse {
+    private UUID photoId;         // 생성된 DiaryPhoto id
+    private String fileName;      // 요청한 파일명
+    private String objectName;    // 저장된 object 키
+    private long bytes;           // 업로드한 바이트 수
+    private int parts;            // 멀티파트 파트 수 (단일 PUT 이면 1)
+    private long elapsedMs;
+    private long bytesPerSecond;
+}
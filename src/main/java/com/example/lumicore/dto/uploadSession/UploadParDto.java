@@ -18,4 +18,7 @@ import java.util.UUID;
 public class UploadParDto {
     private UUID id;   // 저장된 Object key
     private String accessUri;   // Upload-PAR URL
+    private String fileName;    // 요청한 파일명
+    private String objectName;  // prefix 모드에서 baseUri 뒤에 붙일 object 이름
+    private String error;       // PAR 발급 실패 사유 (성공 시 null)
 }
\ No newline at end of file
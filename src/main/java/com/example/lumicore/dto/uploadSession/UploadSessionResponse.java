@@ -1,5 +1,6 @@
 package com.example.lumicore.dto.uploadSession;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -8,10 +9,17 @@ import java.util.UUID;
 
 /**
  * 생성된 Diary ID 와 PAR 리스트를 함께 반환
+ * prefix 모드에서는 baseUri + objectName 으로 파일별 업로드 URL 을 만들 수 있다.
  */
 @Data
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class UploadSessionResponse {
     private UUID diaryId;
     private List<UploadParDto> uploadPars;
+    private String baseUri;
+
+    public UploadSessionResponse(UUID diaryId, List<UploadParDto> uploadPars) {
+        this(diaryId, uploadPars, null);
+    }
 }
@@ -7,14 +7,28 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 
 import java.time.LocalDateTime;
 
+/**
+ * createdAt / deletedAt 공통 컬럼
+ *
+ * soft delete 된 row 는 SQL 단계에서 제외된다 (softDeleteFilter 가 모든 세션에서 기본 활성).
+ * - 하위 엔티티를 조회하는 JPQL·파생 쿼리와 @Filter 를 붙인 컬렉션에 적용
+ * - findById 등 id 로 직접 로딩하는 경로와 bulk UPDATE 에는 적용되지 않음
+ * - 삭제된 row 까지 봐야 하는 관리 작업은 SoftDeleteFilter.includingDeleted 로 감싼다
+ */
 @MappedSuperclass
+@FilterDef(name = BaseEntity.SOFT_DELETE_FILTER, defaultCondition = "deleted_at is null", autoEnabled = true)
+@Filter(name = BaseEntity.SOFT_DELETE_FILTER)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseEntity {
 
+    public static final String SOFT_DELETE_FILTER = "softDeleteFilter";
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
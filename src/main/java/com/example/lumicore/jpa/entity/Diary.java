@@ -1,15 +1,21 @@
 package com.example.lumicore.jpa.entity;
 
+import com.example.lumicore.jpa.support.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.Filter;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "diaries")
+@Table(name = "diaries", indexes = {
+        // 사용자별 목록 (삭제 제외 + 최신순 keyset) 인덱스 range scan
+        @Index(name = "idx_diaries_user_deleted_created", columnList = "user_id, deleted_at, created_at, id"),
+        // 기간 조회 (V2__performance_indexes.sql)
+        @Index(name = "idx_diaries_user_created", columnList = "user_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -17,8 +23,7 @@ import java.util.UUID;
 public class Diary extends BaseEntity {
 
     @Id
-    @UuidGenerator
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -29,10 +34,12 @@ public class Diary extends BaseEntity {
     private EmotionTag emotion;
 
     @OneToMany(mappedBy = "diary", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Filter(name = BaseEntity.SOFT_DELETE_FILTER)
     @Builder.Default
     private List<DiaryPhoto> photos = new ArrayList<>();
 
     @OneToMany(mappedBy = "diary", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Filter(name = BaseEntity.SOFT_DELETE_FILTER)
     @Builder.Default
     private List<DiaryQA> qas = new ArrayList<>();
 
@@ -51,6 +58,11 @@ public class Diary extends BaseEntity {
     @Builder.Default
     private List<DigestEntry> digestEntries = new ArrayList<>();
 
+    /** 응답 ETag 용 버전 — 다이어리·QA·사진이 바뀔 때마다 증가 */
+    @Builder.Default
+    @Column(name = "revision", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long revision = 0L;
+
 
     /** 감정 변경 */
     public void changeEmotion(EmotionTag newEmotion) {
@@ -68,4 +80,9 @@ public class Diary extends BaseEntity {
     public void updateOverallDaySummary(String overallDaySummary) {
         this.overallDaySummary = overallDaySummary;
     }
+
+    /** 응답에 보이는 내용이 바뀌었음을 표시 (ETag 갱신) */
+    public void touch() {
+        this.revision++;
+    }
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package com.example.lumicore.jpa.entity;
 
+import com.example.lumicore.jpa.support.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.Filter;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -10,7 +11,12 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "diary_photos")
+@Table(name = "diary_photos", indexes = {
+        @Index(name = "idx_diary_photos_content_hash", columnList = "content_hash"),
+        @Index(name = "idx_diary_photos_perceptual_hash", columnList = "perceptual_hash"),
+        // 다이어리별 사진 조회 (삭제 제외) + 첫 번째 사진(목록 커버)
+        @Index(name = "idx_diary_photos_diary_deleted_created", columnList = "diary_id, deleted_at, created_at, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -18,8 +24,7 @@ import java.util.UUID;
 public class DiaryPhoto extends BaseEntity {
 
     @Id
-    @UuidGenerator
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -30,6 +35,18 @@ public class DiaryPhoto extends BaseEntity {
     @Column(name = "object_key", length = 1000, nullable = false)
     private String objectKey;
 
+    /** 목록·커버용 썸네일 object 키 (생성 전이면 null) */
+    @Column(name = "thumbnail_key", length = 1000)
+    private String thumbnailKey;
+
+    /** object 의 MD5 (base64) — 같은 파일 재업로드 판별용 */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /** 원본 dHash (썸네일 생성 시 계산) — 재인코딩·리사이즈된 같은 사진 판별용 */
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash;
+
     @Column(name = "description", length = 1000)
     private String description;
 
@@ -46,6 +63,7 @@ public class DiaryPhoto extends BaseEntity {
 
     /** 중간 엔티티 1:N */
     @OneToMany(mappedBy = "photo", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Filter(name = BaseEntity.SOFT_DELETE_FILTER)
     @Builder.Default
     private Set<PhotoLandmark> photoLandmarks = new HashSet<>();
 
@@ -68,6 +86,29 @@ public class DiaryPhoto extends BaseEntity {
         this.longitude = longitude;
     }
 
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    /** 같은 사진으로 판별된 기존 사진의 분석 결과(설명·랜드마크·위치) 복사 */
+    public void copyAnalysisFrom(DiaryPhoto source) {
+        this.description = source.getDescription();
+        if (this.latitude == null && source.getLatitude() != null) {
+            this.latitude = source.getLatitude();
+            this.longitude = source.getLongitude();
+        }
+        if (this.capturedAt == null) {
+            this.capturedAt = source.getCapturedAt();
+        }
+        for (PhotoLandmark pl : source.getPhotoLandmarks()) {
+            addLandmark(pl.getLandmark());
+        }
+    }
+
+    public void updateThumbnailKey(String thumbnailKey) {
+        this.thumbnailKey = thumbnailKey;
+    }
+
     public static DiaryPhoto of(Diary diary, String objectKey) {
         return DiaryPhoto.builder()
                 .diary(diary)
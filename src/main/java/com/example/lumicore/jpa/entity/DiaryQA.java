@@ -1,13 +1,16 @@
 package com.example.lumicore.jpa.entity;
 
+import com.example.lumicore.jpa.support.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "diary_qa")
+@Table(name = "diary_qa", indexes = {
+        // 다이어리별 QA 조회 (삭제 제외)
+        @Index(name = "idx_diary_qa_diary_deleted", columnList = "diary_id, deleted_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -15,8 +18,7 @@ import java.util.UUID;
 public class DiaryQA extends BaseEntity {
 
     @Id
-    @UuidGenerator
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
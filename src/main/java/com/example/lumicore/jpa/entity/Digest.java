@@ -1,8 +1,8 @@
 package com.example.lumicore.jpa.entity;
 
+import com.example.lumicore.jpa.support.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -10,7 +10,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "digests")
+@Table(name = "digests", indexes = {
+        @Index(name = "idx_digests_user_period", columnList = "user_id, period_start")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -18,8 +20,7 @@ import java.util.UUID;
 public class Digest {
 
     @Id
-    @UuidGenerator
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -46,5 +47,21 @@ public class Digest {
     @OneToMany(mappedBy = "digest", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<DigestEntry> entries = new ArrayList<>();
-}
 
+    /** 응답 ETag 용 버전 — 다이제스트 내용이 바뀔 때마다 증가 (같은 기간 응답을 다시 받을 때) */
+    @Builder.Default
+    @Column(name = "revision", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long revision = 0L;
+
+    /** 같은 사용자·기간의 응답을 다시 받은 경우 내용 교체 */
+    public void updateContent(String title, String overallEmotion, String activity,
+                              String emotionTrend, String specialMoment, String digestSummary) {
+        this.title = title;
+        this.overallEmotion = overallEmotion;
+        this.activity = activity;
+        this.emotionTrend = emotionTrend;
+        this.specialMoment = specialMoment;
+        this.digestSummary = digestSummary;
+        this.revision++;
+    }
+}
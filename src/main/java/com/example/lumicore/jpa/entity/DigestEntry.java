@@ -1,8 +1,8 @@
 package com.example.lumicore.jpa.entity;
 
+import com.example.lumicore.jpa.support.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
@@ -17,8 +17,7 @@ import java.util.UUID;
 public class DigestEntry {
 
     @Id
-    @UuidGenerator
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -37,4 +36,8 @@ public class DigestEntry {
     public void updateDigest(Digest digest) {
         this.digest = digest;
     }
+
+    public void updateDiarySummary(String diarySummary) {
+        this.diarySummary = diarySummary;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.lumicore.jpa.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 다이제스트 종류 (digest_ledger 키의 일부)
+ */
+public enum DigestKind {
+    WEEKLY,
+    MONTHLY;
+
+    /** 기간이 한 달 전체(1일~말일)면 MONTHLY, 그 외(주간·수동 지정 기간)는 WEEKLY */
+    public static DigestKind of(LocalDate start, LocalDate end) {
+        boolean wholeMonth = start.getDayOfMonth() == 1
+                && end.equals(start.withDayOfMonth(start.lengthOfMonth()));
+        return wholeMonth ? MONTHLY : WEEKLY;
+    }
+}
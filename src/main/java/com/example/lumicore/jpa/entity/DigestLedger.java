@@ -0,0 +1,115 @@
+package com.example.lumicore.jpa.entity;
+
+import com.example.lumicore.jpa.support.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * (userId, periodStart, periodEnd, kind) 별 다이제스트 생성 이력
+ *
+ * Batch 는 COMPLETED 이거나 전송 직후(REQUESTED, in-flight)인 사용자를 건너뛰고,
+ * 없거나 FAILED 이거나 응답 없이 오래된 REQUESTED 만 다시 보낸다.
+ */
+@Entity
+@Table(name = "digest_ledger", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_digest_ledger_key", columnNames = {"user_id", "period_start", "period_end", "kind"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class DigestLedger {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "period_start", nullable = false, updatable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false, updatable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, updatable = false)
+    private DigestKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private DigestLedgerStatus status;
+
+    /** COMPLETED 일 때 저장된 Digest */
+    @Column(name = "digest_id")
+    private UUID digestId;
+
+    /** 큐 전송 횟수 */
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static DigestLedger requested(UUID userId, LocalDate start, LocalDate end, LocalDateTime now) {
+        return DigestLedger.builder()
+                .userId(userId)
+                .periodStart(start)
+                .periodEnd(end)
+                .kind(DigestKind.of(start, end))
+                .status(DigestLedgerStatus.REQUESTED)
+                .attempts(1)
+                .requestedAt(now)
+                .build();
+    }
+
+    /** claim 이 잠금 전에 미리 만드는 행 — 아직 보내지 않음(requestedAt 없음)이라 바로 전송 대상이 된다 */
+    public static DigestLedger unsent(UUID userId, LocalDate start, LocalDate end) {
+        return DigestLedger.builder()
+                .userId(userId)
+                .periodStart(start)
+                .periodEnd(end)
+                .kind(DigestKind.of(start, end))
+                .status(DigestLedgerStatus.REQUESTED)
+                .build();
+    }
+
+    /** 다시 보내도 되는지: FAILED 이거나 staleBefore 이전에 보낸 뒤 응답이 없는 REQUESTED */
+    public boolean isResendable(LocalDateTime staleBefore) {
+        return status == DigestLedgerStatus.FAILED
+                || (status == DigestLedgerStatus.REQUESTED
+                    && (requestedAt == null || requestedAt.isBefore(staleBefore)));
+    }
+
+    public void request(LocalDateTime now) {
+        this.status = DigestLedgerStatus.REQUESTED;
+        this.attempts++;
+        this.requestedAt = now;
+        this.lastError = null;
+    }
+
+    public void fail(String error) {
+        this.status = DigestLedgerStatus.FAILED;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    public void complete(UUID digestId, LocalDateTime now) {
+        this.status = DigestLedgerStatus.COMPLETED;
+        this.digestId = digestId;
+        this.completedAt = now;
+        this.lastError = null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.lumicore.jpa.entity;
+
+/**
+ * 다이제스트 생성 요청 상태
+ */
+public enum DigestLedgerStatus {
+    /** 큐로 전송됨, AI 응답 대기 (in-flight) — requestedAt 이 없으면 claim 이 미리 만든 미전송 행 */
+    REQUESTED,
+    /** 응답 수신 후 Digest 저장 완료 */
+    COMPLETED,
+    /** 큐 전송 실패 — 다음 실행에서 다시 전송 */
+    FAILED
+}
@@ -2,6 +2,7 @@ package com.example.lumicore.jpa.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Filter;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -23,6 +24,7 @@ public class Landmark extends BaseEntity {
 
     /** 중간 엔티티 1:N */
     @OneToMany(mappedBy = "landmark", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Filter(name = BaseEntity.SOFT_DELETE_FILTER)
     @Builder.Default
     private Set<PhotoLandmark> photoLandmarks = new HashSet<>();
 }
@@ -0,0 +1,39 @@
+package com.example.lumicore.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레플리카 간 공유되는 READ-PAR 캐시 항목 (objectKey 단위)
+ */
+@Entity
+@Table(name = "par_cache", indexes = {
+        @Index(name = "idx_par_cache_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ParCacheEntry {
+
+    @Id
+    @Column(name = "object_key", length = 700, updatable = false, nullable = false)
+    private String objectKey;
+
+    @Column(name = "access_uri", length = 2000, nullable = false)
+    private String accessUri;
+
+    /** PAR 의 timeExpires */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static ParCacheEntry of(String objectKey, String accessUri, LocalDateTime expiresAt) {
+        return ParCacheEntry.builder()
+                .objectKey(objectKey)
+                .accessUri(accessUri)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
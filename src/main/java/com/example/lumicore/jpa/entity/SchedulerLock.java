@@ -0,0 +1,32 @@
+package com.example.lumicore.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레플리카 중 한 곳에서만 돌아야 하는 스케줄 작업의 임대(lease) 잠금
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 100, updatable = false, nullable = false)
+    private String name;
+
+    /** 잠금을 가진 인스턴스 식별자 */
+    @Column(name = "locked_by", length = 200, nullable = false)
+    private String lockedBy;
+
+    /** 이 시각이 지나면 다른 인스턴스가 가져갈 수 있다 */
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    /** 소유자가 바뀔 때마다 1 증가 — 이전 소유자의 늦은 쓰기를 거부하는 데 사용 */
+    @Column(name = "fencing_token", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long fencingToken;
+}
@@ -2,9 +2,16 @@ package com.example.lumicore.jpa.repository;
 
 import com.example.lumicore.jpa.entity.DiaryPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,4 +21,53 @@ import java.util.UUID;
 public interface DiaryPhotoRepository extends JpaRepository<DiaryPhoto, UUID> {
 
     List<DiaryPhoto> findByDiaryId(UUID diaryId);
+
+    /** 여러 다이어리의 사진을 한 번에 (업로드순) */
+    List<DiaryPhoto> findByDiaryIdInOrderByCreatedAtAscIdAsc(Collection<UUID> diaryIds);
+
+    /** 다이어리 soft delete 시 사진 일괄 처리 (엔티티 로딩 없음) */
+    @Transactional
+    @Modifying
+    @Query("update DiaryPhoto p set p.deletedAt = :now where p.diary.id in :diaryIds and p.deletedAt is null")
+    int softDeleteByDiaryIds(@Param("diaryIds") Collection<UUID> diaryIds, @Param("now") LocalDateTime now);
+
+    /** keys 중 삭제되지 않은 사진의 원본 키 */
+    @Query("select p.objectKey from DiaryPhoto p where p.deletedAt is null and p.objectKey in :keys")
+    List<String> findLiveObjectKeys(@Param("keys") Collection<String> keys);
+
+    /** keys 중 삭제되지 않은 사진의 썸네일 키 */
+    @Query("select p.thumbnailKey from DiaryPhoto p where p.deletedAt is null and p.thumbnailKey in :keys")
+    List<String> findLiveThumbnailKeys(@Param("keys") Collection<String> keys);
+
+    /** 썸네일 생성 스레드에서 호출 — 엔티티 로딩 없이 썸네일 키와 dHash 만 갱신 */
+    @Transactional
+    @Modifying
+    @Query("update DiaryPhoto p set p.thumbnailKey = :thumbnailKey, p.perceptualHash = :perceptualHash where p.id = :id")
+    int updateThumbnail(@Param("id") UUID id,
+                        @Param("thumbnailKey") String thumbnailKey,
+                        @Param("perceptualHash") Long perceptualHash);
+
+    /** 같은 사용자가 같은 내용(MD5)으로 이미 분석 받은 다른 사진 (다른 사용자의 분석·위치는 복사하지 않음) */
+    Optional<DiaryPhoto> findFirstByDiaryUserIdAndContentHashAndDescriptionIsNotNullAndDeletedAtIsNullAndIdNot(
+            UUID userId, String contentHash, UUID id);
+
+    /** 같은 사용자의 사진 중 dHash 가 후보 중 하나인 이미 분석된 다른 사진 */
+    Optional<DiaryPhoto> findFirstByDiaryUserIdAndPerceptualHashInAndDescriptionIsNotNullAndDeletedAtIsNullAndIdNot(
+            UUID userId, Collection<Long> perceptualHashes, UUID id);
+
+    /**
+     * EXIF 로 읽은 값 저장 — 이미 채워진 필드는 유지 (위치는 위도·경도를 함께 판단)
+     * MySQL 은 SET 을 왼쪽부터 적용하므로 longitude 를 latitude 보다 먼저 둔다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update DiaryPhoto p set "
+            + "p.capturedAt = coalesce(p.capturedAt, :capturedAt), "
+            + "p.longitude = case when p.latitude is null then :longitude else p.longitude end, "
+            + "p.latitude = case when p.latitude is null then :latitude else p.latitude end "
+            + "where p.id = :id")
+    int fillMissingMetadata(@Param("id") UUID id,
+                            @Param("capturedAt") LocalDateTime capturedAt,
+                            @Param("latitude") Double latitude,
+                            @Param("longitude") Double longitude);
 }
@@ -2,7 +2,13 @@ package com.example.lumicore.jpa.repository;
 
 import com.example.lumicore.jpa.entity.DiaryQA;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -10,4 +16,13 @@ public interface DiaryQARepository extends JpaRepository<DiaryQA, UUID> {
 
     List<DiaryQA> findByDiaryId(UUID diaryId);
 
+    /** 여러 다이어리의 QA 를 한 번에 (작성순) */
+    List<DiaryQA> findByDiaryIdInOrderByCreatedAtAscIdAsc(Collection<UUID> diaryIds);
+
+    /** 다이어리 soft delete 시 QA 일괄 처리 (엔티티 로딩 없음) */
+    @Transactional
+    @Modifying
+    @Query("update DiaryQA q set q.deletedAt = :now where q.diary.id in :diaryIds and q.deletedAt is null")
+    int softDeleteByDiaryIds(@Param("diaryIds") Collection<UUID> diaryIds, @Param("now") LocalDateTime now);
+
 }
@@ -1,20 +1,105 @@
 package com.example.lumicore.jpa.repository;
 
 import com.example.lumicore.jpa.entity.Diary;
+import com.example.lumicore.vo.DiaryListVersionVo;
+import com.example.lumicore.vo.DiaryListVo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface DiaryRepository extends JpaRepository<Diary, UUID> {
 
     List<Diary> findByUserId(UUID userId);
 
-    List<Diary> findByUserIdAndCreatedAtBetween(
-            UUID userId,
+    /** 다이제스트 청크용 — 여러 사용자의 기간 내 다이어리를 한 번에 (작성순) */
+    List<Diary> findByUserIdInAndCreatedAtBetweenOrderByCreatedAtAscIdAsc(
+            Collection<UUID> userIds,
             LocalDateTime start,
             LocalDateTime end
     );
-}
 
+    /**
+     * 다이어리 상세 조회용 — photos, qas 는 둘 다 List(bag)라 한 쿼리로 fetch join 할 수 없으므로
+     * 같은 영속성 컨텍스트에서 두 번에 나눠 채운다 (findWithPhotosById → findWithQasById).
+     */
+    @Query("select d from Diary d left join fetch d.photos where d.id = :id")
+    Optional<Diary> findWithPhotosById(@Param("id") UUID id);
+
+    @Query("select d from Diary d left join fetch d.qas where d.id = :id")
+    Optional<Diary> findWithQasById(@Param("id") UUID id);
+
+    /** ETag 확인용 — 엔티티를 로딩하지 않고 revision 만 조회 */
+    @Query("select d.revision from Diary d where d.id = :id")
+    Optional<Long> findRevisionById(@Param("id") UUID id);
+
+    /** 사용자 목록 ETag 확인용 */
+    @Query("select new com.example.lumicore.vo.DiaryListVersionVo("
+            + "count(d), coalesce(sum(d.revision), 0L), max(d.createdAt)) "
+            + "from Diary d where d.userId = :userId and d.deletedAt is null")
+    DiaryListVersionVo findListVersion(@Param("userId") UUID userId);
+
+    /** 사진만 bulk update 하는 경로(EXIF, 썸네일 등)에서 다이어리 revision 증가 */
+    @Transactional
+    @Modifying
+    @Query("update Diary d set d.revision = d.revision + 1 where d.id = :id")
+    int bumpRevision(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("update Diary d set d.revision = d.revision + 1 "
+            + "where d.id = (select p.diary.id from DiaryPhoto p where p.id = :photoId)")
+    int bumpRevisionByPhotoId(@Param("photoId") UUID photoId);
+
+    /** 삭제 대상 다이어리들의 소유자 (캐시 무효화용) */
+    @Query("select distinct d.userId from Diary d where d.id in :ids and d.userId is not null")
+    List<UUID> findUserIds(@Param("ids") Collection<UUID> ids);
+
+    /** 엔티티 로딩 없이 soft delete — 이미 삭제된 다이어리는 그대로 둔다 */
+    @Transactional
+    @Modifying
+    @Query("update Diary d set d.deletedAt = :now, d.revision = d.revision + 1 "
+            + "where d.id in :ids and d.deletedAt is null")
+    int softDeleteByIds(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    /** ids 중 삭제되지 않은 다이어리 id */
+    @Query("select d.id from Diary d where d.deletedAt is null and d.id in :ids")
+    List<UUID> findLiveIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 사용자 다이어리 목록 첫 페이지 (최신순, 삭제 제외)
+     * 다이어리마다 삭제되지 않은 첫 번째 사진(createdAt, id 순)을 같은 쿼리에서 붙인다.
+     */
+    @Query(LIST_SELECT
+            + "where d.userId = :userId and d.deletedAt is null "
+            + LIST_ORDER)
+    List<DiaryListVo> findListPage(@Param("userId") UUID userId, Limit limit);
+
+    /** (createdAt, id) 커서 다음 페이지 */
+    @Query(LIST_SELECT
+            + "where d.userId = :userId and d.deletedAt is null "
+            + "and (d.createdAt < :createdAt or (d.createdAt = :createdAt and d.id < :id)) "
+            + LIST_ORDER)
+    List<DiaryListVo> findListPageAfter(@Param("userId") UUID userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Limit limit);
+
+    String LIST_SELECT = "select new com.example.lumicore.vo.DiaryListVo("
+            + "d.id, d.createdAt, d.overallDaySummary, d.emotion, "
+            + "p.id, p.objectKey, p.thumbnailKey, p.latitude, p.longitude) "
+            + "from Diary d "
+            + "left join DiaryPhoto p on p.diary = d and p.id = ("
+            + "select p2.id from DiaryPhoto p2 where p2.diary = d and p2.deletedAt is null "
+            + "order by p2.createdAt, p2.id limit 1) ";
+
+    String LIST_ORDER = "order by d.createdAt desc, d.id desc";
+}
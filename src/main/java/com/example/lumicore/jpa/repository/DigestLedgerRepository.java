@@ -0,0 +1,50 @@
+package com.example.lumicore.jpa.repository;
+
+import com.example.lumicore.jpa.entity.DigestKind;
+import com.example.lumicore.jpa.entity.DigestLedger;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DigestLedgerRepository extends JpaRepository<DigestLedger, UUID> {
+
+    /**
+     * 청크 사용자들의 이력 (select ... for update — 동시에 같은 사용자를 선점하지 않도록)
+     * 없는 행까지 조회하면 gap lock 이 걸리므로 행을 먼저 만든 뒤 호출한다 (DigestLedgerService.claim)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from DigestLedger l where l.userId in :userIds "
+            + "and l.periodStart = :start and l.periodEnd = :end and l.kind = :kind")
+    List<DigestLedger> findForUpdate(@Param("userIds") Collection<UUID> userIds,
+                                     @Param("start") LocalDate start,
+                                     @Param("end") LocalDate end,
+                                     @Param("kind") DigestKind kind);
+
+    /** 이력이 있는 사용자 id (잠금 없는 조회 — gap lock 을 잡지 않음) */
+    @Query("select l.userId from DigestLedger l where l.userId in :userIds "
+            + "and l.periodStart = :start and l.periodEnd = :end and l.kind = :kind")
+    List<UUID> findUserIds(@Param("userIds") Collection<UUID> userIds,
+                           @Param("start") LocalDate start,
+                           @Param("end") LocalDate end,
+                           @Param("kind") DigestKind kind);
+
+    /** 잠금 없는 존재 확인 (gap lock 을 잡지 않음) */
+    boolean existsByUserIdAndPeriodStartAndPeriodEndAndKind(UUID userId, LocalDate periodStart,
+                                                           LocalDate periodEnd, DigestKind kind);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from DigestLedger l where l.userId = :userId "
+            + "and l.periodStart = :start and l.periodEnd = :end and l.kind = :kind")
+    Optional<DigestLedger> findOneForUpdate(@Param("userId") UUID userId,
+                                            @Param("start") LocalDate start,
+                                            @Param("end") LocalDate end,
+                                            @Param("kind") DigestKind kind);
+}
@@ -1,11 +1,26 @@
 package com.example.lumicore.jpa.repository;
 
 import com.example.lumicore.jpa.entity.Digest;
+import com.example.lumicore.vo.DigestVersionVo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface DigestRepository extends JpaRepository<Digest, UUID> {
     List<Digest> findAllByUserId(UUID userId);
+
+    /** 이력(digest_ledger) 도입 전에 저장된 같은 기간 Digest (중복이 있으면 가장 앞의 것) */
+    Optional<Digest> findFirstByUserIdAndPeriodStartAndPeriodEndOrderByIdAsc(UUID userId, LocalDate periodStart, LocalDate periodEnd);
+
+    /** ETag 확인용 — 엔티티를 로딩하지 않고 버전만 조회 */
+    @Query("select new com.example.lumicore.vo.DigestVersionVo("
+            + "g.revision, coalesce(sum(di.revision), 0L), count(e)) "
+            + "from Digest g left join g.entries e left join e.diary di "
+            + "where g.id = :id group by g.id, g.revision")
+    Optional<DigestVersionVo> findVersionById(@Param("id") UUID id);
 }
@@ -0,0 +1,16 @@
+package com.example.lumicore.jpa.repository;
+
+import com.example.lumicore.jpa.entity.ParCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ParCacheEntryRepository extends JpaRepository<ParCacheEntry, String> {
+
+    @Modifying
+    @Query("delete from ParCacheEntry e where e.expiresAt < :threshold")
+    int deleteExpiringBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,44 @@
+package com.example.lumicore.jpa.repository;
+
+import com.example.lumicore.jpa.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /** 잠금 row 가 없을 때만 생성 (있으면 0) — fencing_token 은 컬럼 기본값(V3)과 같은 0 에서 시작 */
+    @Modifying
+    @Query(value = "insert ignore into scheduler_lock (name, locked_by, locked_until, fencing_token) "
+            + "values (:name, :owner, :until, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name,
+                       @Param("owner") String owner,
+                       @Param("until") LocalDateTime until);
+
+    /**
+     * 만료됐거나 이미 자신이 가진 잠금만 획득·연장
+     * 다른 소유자에게서 가져올 때만 fencing_token 증가 (MySQL 은 SET 을 왼쪽부터 적용하므로 lockedBy 보다 먼저)
+     */
+    @Modifying
+    @Query("update SchedulerLock l set "
+            + "l.fencingToken = case when l.lockedBy = :owner then l.fencingToken else l.fencingToken + 1 end, "
+            + "l.lockedBy = :owner, l.lockedUntil = :until "
+            + "where l.name = :name and (l.lockedUntil < :now or l.lockedBy = :owner)")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    @Query("select l.fencingToken from SchedulerLock l where l.name = :name")
+    Optional<Long> findFencingToken(@Param("name") String name);
+
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,130 @@
+package com.example.lumicore.jpa.routing;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레플리카 복제 지연 확인
+ *
+ * SHOW REPLICA STATUS (8.0.22 미만은 SHOW SLAVE STATUS)의 Seconds_Behind_Source 가
+ * app.datasource.replica.max-lag-seconds 를 넘거나, 복제가 멈췄거나(NULL), 연결에 실패하면
+ * 해당 레플리카를 비정상으로 표시해 읽기를 primary 로 돌린다.
+ * 복제 상태가 비어 있는 인스턴스(로컬 테스트용 단독 DB)는 지연 0 으로 본다.
+ * lag-check-enabled=false 이면 확인하지 않는다 (H2 등 SHOW 구문이 없는 DB).
+ *
+ * 확인은 전용 스레드에서 돈다 — @Scheduled 공용 스케줄러는 ParJanitor 의 대기 등으로
+ * 오래 붙잡힐 수 있어, 그동안 지연된 레플리카로 읽기가 계속 가는 것을 막기 위함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource readOnlyDataSource;
+
+    @Value("${app.datasource.replica.lag-check-enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.datasource.replica.max-lag-seconds:3}")
+    private long maxLagSeconds;
+
+    @Value("${app.datasource.replica.lag-check-interval-ms:5000}")
+    private long intervalMs;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        if (!enabled || readOnlyDataSource.getReplicas().isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-lag-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /** 예외가 밖으로 나가면 scheduleWithFixedDelay 가 이후 실행을 멈추므로 여기서 삼킨다 */
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("레플리카 지연 확인 실패", e);
+        }
+    }
+
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+        for (ReplicaRoutingDataSource.Replica replica : readOnlyDataSource.getReplicas()) {
+            Long lag;
+            try {
+                lag = readLagSeconds(replica);
+            } catch (SQLException e) {
+                markDown(replica, "연결/조회 실패: " + e.getMessage(), replica.getLagSeconds());
+                continue;
+            }
+            if (lag == null) {
+                markDown(replica, "복제 중지", replica.getLagSeconds());
+            } else if (lag > maxLagSeconds) {
+                markDown(replica, "지연 " + lag + "s", lag);
+            } else {
+                if (!replica.isHealthy()) {
+                    log.info("레플리카 복구: {} (지연 {}s)", replica.getName(), lag);
+                }
+                replica.update(true, lag);
+            }
+        }
+    }
+
+    private void markDown(ReplicaRoutingDataSource.Replica replica, String reason, double lagSeconds) {
+        if (replica.isHealthy()) {
+            log.warn("레플리카 제외: {} ({}) → 읽기를 primary 로 전환", replica.getName(), reason);
+        }
+        replica.update(false, lagSeconds);
+    }
+
+    /** 지연(초), 복제가 멈춰 있으면 null */
+    private Long readLagSeconds(ReplicaRoutingDataSource.Replica replica) throws SQLException {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return lagOf(rs, "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return lagOf(rs, "Seconds_Behind_Master");
+                }
+            }
+        }
+    }
+
+    private static Long lagOf(ResultSet rs, String column) throws SQLException {
+        if (!rs.next()) {
+            return 0L;
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? null : lag;
+    }
+}
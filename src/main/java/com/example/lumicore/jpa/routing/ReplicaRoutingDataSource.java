@@ -0,0 +1,118 @@
+package com.example.lumicore.jpa.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource
+ *
+ * 정상(healthy) 레플리카를 라운드로빈으로 고르고, 모두 비정상이면 primary 로 보낸다.
+ * 레플리카 상태는 ReplicaLagMonitor 가 복제 지연을 확인해 갱신한다.
+ *
+ * 메트릭: datasource.read.route{route=replica|primary} (연결 획득 횟수),
+ *        datasource.replica.lag{pool} (초), datasource.replica.healthy{pool}
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    @Getter
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaRoutes;
+    private final Counter primaryRoutes;
+
+    /**
+     * @param replicas       이름(pool 이름) → 레플리카 DataSource
+     * @param initialHealthy 지연 확인 전 초기 상태 (지연 확인을 끄면 true)
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    boolean initialHealthy, MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<Replica> list = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            Replica replica = new Replica(name, dataSource, initialHealthy);
+            list.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, Replica::getLagSeconds)
+                    .tag("pool", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        });
+        this.replicas = List.copyOf(list);
+        this.replicaRoutes = meterRegistry.counter("datasource.read.route", "route", "replica");
+        this.primaryRoutes = meterRegistry.counter("datasource.read.route", "route", PRIMARY);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        int size = replicas.size();
+        if (size > 0) {
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (replica.isHealthy()) {
+                    replicaRoutes.increment();
+                    return replica.getName();
+                }
+            }
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+
+    /** 레플리카 풀만 닫는다 (primary 는 별도 빈) */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("레플리카 풀 종료 실패: {}", replica.getName(), e);
+                }
+            }
+        }
+    }
+
+    @Getter
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        Replica(String name, DataSource dataSource, boolean healthy) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.healthy = healthy;
+        }
+
+        void update(boolean healthy, double lagSeconds) {
+            this.healthy = healthy;
+            this.lagSeconds = lagSeconds;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.lumicore.jpa.support;
+
+import com.example.lumicore.jpa.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * softDeleteFilter 우회 도우미 (관리·정리 작업용)
+ *
+ * 현재 트랜잭션의 세션에서 필터를 끄고 action 을 실행한 뒤 원래 상태로 되돌린다.
+ * 이미 영속성 컨텍스트에 올라온 컬렉션은 다시 읽지 않으므로, 삭제된 row 까지 필요하면 action 안에서 조회할 것.
+ */
+@Component
+public class SoftDeleteFilter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public <T> T includingDeleted(Supplier<T> action) {
+        Session session = entityManager.unwrap(Session.class);
+        boolean enabled = session.getEnabledFilter(BaseEntity.SOFT_DELETE_FILTER) != null;
+        if (enabled) {
+            session.disableFilter(BaseEntity.SOFT_DELETE_FILTER);
+        }
+        try {
+            return action.get();
+        } finally {
+            if (enabled) {
+                session.enableFilter(BaseEntity.SOFT_DELETE_FILTER);
+            }
+        }
+    }
+}
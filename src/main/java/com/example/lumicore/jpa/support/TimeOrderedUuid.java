@@ -0,0 +1,22 @@
+package com.example.lumicore.jpa.support;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * UUID 기본키 생성 (@UuidGenerator 대체)
+ *
+ * app.id.time-ordered=true 이면 시간순(UUIDv7) 값을, 아니면 기존과 같은 랜덤(v4) 값을 만든다.
+ * @see TimeOrderedUuidGenerator
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+}
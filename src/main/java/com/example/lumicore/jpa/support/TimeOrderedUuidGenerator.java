@@ -0,0 +1,66 @@
+package com.example.lumicore.jpa.support;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * UUIDv7 (RFC 9562) 생성기
+ *
+ * 상위 48비트가 unix 밀리초라 BINARY(16) 기본키가 시간순으로 증가하고,
+ * 새 row 가 InnoDB 클러스터드 인덱스의 끝 페이지에만 추가된다 (랜덤 v4 의 페이지 분할 방지).
+ * 같은 밀리초 안에서는 rand_a(12비트)를 카운터로 써서 이 JVM 안에서 단조 증가를 보장하고,
+ * 카운터가 넘치거나 시계가 뒤로 가면 마지막 값의 밀리초를 이어서 사용한다.
+ *
+ * 설정값은 spring.jpa.properties 로 Hibernate 에 전달된 app.id.time-ordered 를 읽는다.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    public static final String TIME_ORDERED_SETTING = "app.id.time-ordered";
+
+    private static final int COUNTER_BITS = 12;
+
+    /** (unix 밀리초 << 12) | 카운터 — 모든 엔티티가 공유 */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private final boolean timeOrdered;
+
+    public TimeOrderedUuidGenerator(TimeOrderedUuid config, Member member, CustomIdGeneratorCreationContext context) {
+        this.timeOrdered = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(TIME_ORDERED_SETTING, StandardConverters.BOOLEAN, false);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return timeOrdered ? nextV7() : UUID.randomUUID();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    static UUID nextV7() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long state = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long millis = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+        long msb = (millis << 16) | 0x7000L | counter;                      // 48비트 시각 | ver(7) | rand_a
+        long lsb = (ThreadLocalRandom.current().nextLong() >>> 2) | Long.MIN_VALUE; // var(10) | rand_b
+        return new UUID(msb, lsb);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.lumicore.service;
 
+import com.example.lumicore.service.cache.DiaryResponseCache;
 import com.example.lumicore.websocket.DiaryWebSocketHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class AiCallbackConsumerService {
     private final DiaryWebSocketHandler webSocketHandler;
     private final ObjectMapper objectMapper;
     private final AiCallbackDataService callbackDataService;
+    private final DiaryResponseCache diaryResponseCache;
 
     @Value("${app.kafka.message.ttl-minutes:5}")
     private int messageTtlMinutes;
@@ -49,6 +51,13 @@ public class AiCallbackConsumerService {
             String diaryId = payload.get("diaryId").asText();
             String callbackType = payload.get("callbackType").asText();
             long messageTimestamp = payload.get("timestamp").asLong();
+
+            // 캐시 무효화는 세션·TTL 과 무관하게 모든 pod 에서 처리
+            if (CALLBACK_TYPE_CACHE_INVALIDATE.equals(callbackType)) {
+                diaryResponseCache.onRemoteInvalidate(diaryId, payload.get("data"));
+                acknowledgment.acknowledge();
+                return;
+            }
             
             // TTL 체크 - 오래된 메시지 필터링
             if (isMessageExpired(messageTimestamp)) {
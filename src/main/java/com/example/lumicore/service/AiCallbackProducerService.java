@@ -25,6 +25,8 @@ public class AiCallbackProducerService {
     public static final String CALLBACK_TYPE_ANALYSIS_COMPLETE = "ANALYSIS_COMPLETE";
     public static final String CALLBACK_TYPE_DIGEST_COMPLETE = "DIGEST_COMPLETE";
     public static final String CALLBACK_TYPE_ERROR = "ERROR";
+    /** 레플리카 간 다이어리 응답 캐시 무효화 (WebSocket 세션과 무관) */
+    public static final String CALLBACK_TYPE_CACHE_INVALIDATE = "CACHE_INVALIDATE";
 
     /**
      * Kafka를 통해 콜백 메시지 전송
@@ -8,6 +8,7 @@ import com.example.lumicore.dto.question.QuestionItemDto;
 import com.example.lumicore.dto.question.QuestionListResponseDto;
 import com.example.lumicore.jpa.entity.*;
 import com.example.lumicore.jpa.repository.*;
+import com.example.lumicore.service.cache.DiaryResponseCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +32,7 @@ public class AnalysisServiceImpl implements AnalysisService {
     private final LandmarkRepository landmarkRepo;
     private final DiaryQARepository qaRepo;
     private final AiCallbackProducerService callbackProducerService;
+    private final DiaryResponseCache diaryResponseCache;
 
     // 중복 처리 방지를 위한 처리 완료 상태 추적
     private final ConcurrentHashMap<String, Boolean> processedCallbacks = new ConcurrentHashMap<>();
@@ -83,13 +85,13 @@ public class AnalysisServiceImpl implements AnalysisService {
             
             // metadata가 null이 아닐 때만 처리
             if (img.getMetadata() != null) {
-                // captureDate null 체크
-                if (img.getMetadata().getCaptureDate() != null) {
+                // captureDate null 체크 — 업로드 시 EXIF 로 채운 값이 있으면 유지
+                if (img.getMetadata().getCaptureDate() != null && photo.getCapturedAt() == null) {
                     photo.updateCapturedAt(LocalDateTime.parse(img.getMetadata().getCaptureDate(), dtf));
                 }
 
-                // location null 체크
-                if (img.getMetadata().getLocation() != null) {
+                // location null 체크 — 업로드 시 EXIF 로 채운 값이 있으면 유지
+                if (img.getMetadata().getLocation() != null && photo.getLatitude() == null) {
                     photo.updateLocation(
                             img.getMetadata().getLocation().getLatitude(),
                             img.getMetadata().getLocation().getLongitude()
@@ -130,7 +132,9 @@ public class AnalysisServiceImpl implements AnalysisService {
         if (dto.getOverallDaySummary() != null) {
             diary.updateOverallDaySummary(dto.getOverallDaySummary());
         }
+        diary.touch();
         diaryRepo.save(diary);
+        diaryResponseCache.invalidate(diaryId, diary.getUserId());
 
         // 2) 질문별 DiaryQA 저장
         if (dto.getQuestions() != null) {
@@ -1,11 +1,14 @@
 package com.example.lumicore.service;
 
+import com.example.lumicore.dto.diary.DiaryPageDto;
 import com.example.lumicore.dto.diary.DiaryResponseDto;
 import com.example.lumicore.dto.diary.DiarySummaryDto;
-import com.example.lumicore.dto.digest.request.DigestRequestEntryDto;
+import com.example.lumicore.dto.digest.request.DigestRequestDto;
 import com.example.lumicore.dto.question.DiaryAnswerRequestDto;
+import com.example.lumicore.vo.DiaryListVersionVo;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,18 +19,30 @@ public interface DiaryService {
 
     void deleteDiary(UUID diaryId) throws Exception;
 
-    DiaryResponseDto getDiary(UUID diaryId) throws Exception;
+    /** 여러 다이어리 soft delete (한 트랜잭션) — 새로 삭제된 다이어리 수 반환 */
+    int deleteDiaries(Collection<UUID> diaryIds);
 
-    List<DiarySummaryDto> getDiariesByUser(UUID userId) throws Exception;
+    /** ETag 용 revision (엔티티 로딩 없음) */
+    long getDiaryRevision(UUID diaryId);
 
-    List<UUID> getAllUserIds();
+    /** minRevision 이상인 내용으로 응답 생성 */
+    DiaryResponseDto getDiary(UUID diaryId, long minRevision) throws Exception;
 
-    /** 사용자 로케일 조회 (예: "ko", "en") → DigestRequestDto.userLocale */
-    String getUserLocale(UUID userId);
+    /** 목록 ETag 용 버전 (엔티티 로딩 없음) */
+    DiaryListVersionVo getDiaryListVersion(UUID userId);
 
-    /** 해당 기간의 DigestRequestEntryDto 목록 생성 → Batch Processor 用 */
-    List<DigestRequestEntryDto> getEntriesForDigest(
-            UUID userId,
+    /** version 과 일치하는(또는 더 새로운) 내용으로 목록 생성 */
+    List<DiarySummaryDto> getDiariesByUser(UUID userId, DiaryListVersionVo version) throws Exception;
+
+    /** 사용자 다이어리 목록 (최신순 keyset 페이지) — cursor 가 null 이면 첫 페이지 */
+    DiaryPageDto getDiaryPage(UUID userId, String cursor, int limit);
+
+    /**
+     * 사용자들의 기간 내 다이어리로 DigestRequestDto 생성 → Batch 청크 Writer 用
+     * (다이어리·QA·사진을 IN 조회 3번으로 읽어 조립, userIds 순서 유지)
+     */
+    List<DigestRequestDto> getDigestRequests(
+            Collection<UUID> userIds,
             LocalDateTime periodStart,
             LocalDateTime periodEnd
     );
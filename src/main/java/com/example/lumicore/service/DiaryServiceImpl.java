@@ -1,15 +1,15 @@
 package com.example.lumicore.service;
 
+import com.example.lumicore.dto.diary.DiaryPageDto;
 import com.example.lumicore.dto.diary.DiaryResponseDto;
 import com.example.lumicore.dto.diary.DiarySummaryDto;
 import com.example.lumicore.dto.diary.PhotoInfoDto;
 import com.example.lumicore.dto.diary.QuestionAnswerDiaryDto;
 import com.example.lumicore.dto.digest.request.DigestPhotoInfoDto;
+import com.example.lumicore.dto.digest.request.DigestRequestDto;
 import com.example.lumicore.dto.digest.request.DigestRequestEntryDto;
 import com.example.lumicore.dto.question.DiaryAnswerRequestDto;
 import com.example.lumicore.dto.question.QuestionAnswerDto;
-import com.example.lumicore.dto.readSession.ReadSessionResponse;
-import com.example.lumicore.dto.readSession.ImageData;
 import com.example.lumicore.dto.digest.request.DigestQuestionDto;
 import com.example.lumicore.jpa.entity.Diary;
 import com.example.lumicore.jpa.entity.DiaryPhoto;
@@ -18,18 +18,33 @@ import com.example.lumicore.jpa.entity.EmotionTag;
 import com.example.lumicore.jpa.repository.DiaryPhotoRepository;
 import com.example.lumicore.jpa.repository.DiaryQARepository;
 import com.example.lumicore.jpa.repository.DiaryRepository;
+import com.example.lumicore.jpa.support.SoftDeleteFilter;
+import com.example.lumicore.service.cache.DiaryListSnapshot;
+import com.example.lumicore.service.cache.DiaryResponseCache;
+import com.example.lumicore.service.cache.DiarySnapshot;
+import com.example.lumicore.service.cache.DiarySummarySnapshot;
+import com.example.lumicore.service.cache.PhotoSnapshot;
+import com.example.lumicore.vo.CoverPhotoVo;
+import com.example.lumicore.vo.DiaryListVersionVo;
+import com.example.lumicore.vo.DiaryListVo;
 import jakarta.persistence.EntityNotFoundException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -42,6 +57,11 @@ public class DiaryServiceImpl implements DiaryService {
     private final DiaryPhotoRepository diaryPhotoRepository;
     private final DiaryQARepository diaryQARepository;
     private final ImageService imageService;
+    private final DiaryResponseCache diaryResponseCache;
+    private final SoftDeleteFilter softDeleteFilter;
+
+    @Value("${app.diary.page.max-limit:100}")
+    private int maxPageLimit;
 
 
     @Override
@@ -53,8 +73,10 @@ public class DiaryServiceImpl implements DiaryService {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException("Diary not found: " + diaryId));
 
-        // 2) userId, emotionTag 업데이트
+        // 2) userId, emotionTag 업데이트 (이전·새 소유자 목록 모두 무효화)
+        diaryResponseCache.invalidate(diaryId, diary.getUserId(), dto.getUserId());
         diary.updateUserId(dto.getUserId());
+        diary.touch();
         
         // String → EmotionTag 변환 with 예외 처리
         try {
@@ -82,13 +104,44 @@ public class DiaryServiceImpl implements DiaryService {
 
     @Override
     @Transactional(readOnly = true)
-    public DiaryResponseDto getDiary(UUID diaryId) throws Exception {
-        // 1) Diary 기본정보 조회
-        Diary diary = diaryRepository.findById(diaryId)
+    public long getDiaryRevision(UUID diaryId) {
+        return diaryRepository.findRevisionById(diaryId)
+                .orElseThrow(() -> new EntityNotFoundException("Diary not found: " + diaryId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DiaryResponseDto getDiary(UUID diaryId, long minRevision) throws Exception {
+        // 1) 캐시된 스냅샷 (없거나 minRevision 보다 오래됐으면 DB 에서 조립)
+        DiarySnapshot snapshot = diaryResponseCache.getDiary(diaryId, minRevision, () -> loadDiarySnapshot(diaryId));
+
+        // 2) 사진 URL 은 캐시하지 않고 매번 생성 (PAR 은 ReadParCache 에서 재사용·갱신)
+        Map<UUID, String> urls = imageService.generateReadUrlsFor(snapshot.getPhotos().stream()
+                .map(PhotoSnapshot::getKeys)
+                .collect(Collectors.toList()));
+
+        // 3) 최종 DiaryResponseDto 반환
+        return DiaryResponseDto.builder()
+                .diaryId(snapshot.getDiaryId())
+                .userId(snapshot.getUserId())
+                .userLocale(snapshot.getUserLocale())
+                .emotionTag(snapshot.getEmotionTag())
+                .overallDaySummary(snapshot.getOverallDaySummary())
+                .createdAt(snapshot.getCreatedAt())
+                .answers(snapshot.getAnswers())
+                .photos(snapshot.getPhotos().stream()
+                        .map(photo -> toPhotoInfo(photo, urls))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private DiarySnapshot loadDiarySnapshot(UUID diaryId) {
+        // Diary + photos, 같은 영속성 컨텍스트에서 qas 까지 채움 (쿼리 2회)
+        Diary diary = diaryRepository.findWithPhotosById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException("Diary not found: " + diaryId));
+        diaryRepository.findWithQasById(diaryId);
 
-        // 2) QA → QuestionAnswer DTO 변환
-        List<QuestionAnswerDiaryDto> qaList = diaryQARepository.findByDiaryId(diaryId).stream()
+        List<QuestionAnswerDiaryDto> qaList = diary.getQas().stream()
                 .map(qa -> QuestionAnswerDiaryDto.builder()
                         .questionId(qa.getId())
                         .question(qa.getAiQuestion())
@@ -97,180 +150,286 @@ public class DiaryServiceImpl implements DiaryService {
                 )
                 .collect(Collectors.toList());
 
-        // 3) READ-PAR 세션 생성 & URL 맵 구성
-        ReadSessionResponse session = imageService.generateReadSession(diaryId);
-        Map<String, ImageData> urlMap = session.getImages().stream()
-                .collect(Collectors.toMap(ImageData::getId, Function.identity()));
-
-        // 4) DiaryPhoto → PhotoInfo DTO 변환
-        List<PhotoInfoDto> photoList = diaryPhotoRepository.findByDiaryId(diaryId).stream()
-                .map(photo -> {
-                    ImageData imageData = urlMap.get(photo.getId().toString());
-                    return PhotoInfoDto.builder()
-                            .photoId(photo.getId())
-                            .url(imageData != null ? imageData.getUrl() : null)
-                            .latitude(photo.getLatitude())
-                            .longitude(photo.getLongitude())
-                            .build();
-                })
+        List<PhotoSnapshot> photos = diary.getPhotos().stream()
+                .map(this::toSnapshot)
                 .collect(Collectors.toList());
 
-        // 5) 최종 DiaryResponseDto 반환
-        return DiaryResponseDto.builder()
-                .diaryId(diary.getId())
-                .userId(diary.getUserId())
-                .userLocale(diary.getUserLocale())
-                .emotionTag(diary.getEmotion().name())
-                .overallDaySummary(diary.getOverallDaySummary())
-                .createdAt(diary.getCreatedAt())
-                .answers(qaList)
-                .photos(photoList)
+        return new DiarySnapshot(
+                diary.getRevision(),
+                diary.getId(),
+                diary.getUserId(),
+                diary.getUserLocale(),
+                diary.getEmotion().name(),
+                diary.getOverallDaySummary(),
+                diary.getCreatedAt(),
+                qaList,
+                photos
+        );
+    }
+
+    private PhotoSnapshot toSnapshot(DiaryPhoto photo) {
+        return new PhotoSnapshot(CoverPhotoVo.of(photo), photo.getLatitude(), photo.getLongitude());
+    }
+
+    private PhotoInfoDto toPhotoInfo(PhotoSnapshot photo, Map<UUID, String> urls) {
+        UUID photoId = photo.getKeys().getPhotoId();
+        return PhotoInfoDto.builder()
+                .photoId(photoId)
+                .url(urls.get(photoId))
+                .latitude(photo.getLatitude())
+                .longitude(photo.getLongitude())
                 .build();
     }
 
     @Override
     @Transactional
     public void deleteDiary(UUID diaryId) throws Exception {
-        // 1) Diary 엔티티 로드
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new EntityNotFoundException("Diary not found: " + diaryId));
+        // 이미 삭제된 다이어리는 그대로 두고, 없는 다이어리만 404
+        if (softDelete(List.of(diaryId)) == 0
+                && !softDeleteFilter.includingDeleted(() -> diaryRepository.existsById(diaryId))) {
+            throw new EntityNotFoundException("Diary not found: " + diaryId);
+        }
+    }
 
-        // 2) Diary에 soft-delete 표시
-        diary.markDeleted();
+    @Override
+    @Transactional
+    public int deleteDiaries(Collection<UUID> diaryIds) {
+        return softDelete(diaryIds);
+    }
 
-        // 3) 관련 QA들 soft-delete
-        diaryQARepository.findByDiaryId(diaryId)
-                .forEach(DiaryQA::markDeleted);
+    /**
+     * Diary / QA / Photo 를 set-based UPDATE 3건으로 soft-delete (엔티티 로딩 없음)
+     * Diary 는 revision 도 함께 올려 ETag 가 바뀌게 한다.
+     */
+    private int softDelete(Collection<UUID> diaryIds) {
+        List<UUID> owners = diaryRepository.findUserIds(diaryIds);
+        LocalDateTime now = LocalDateTime.now();
 
-        // 4) 관련 Photo들 soft-delete
-        diaryPhotoRepository.findByDiaryId(diaryId)
-                .forEach(DiaryPhoto::markDeleted);
+        int deleted = diaryRepository.softDeleteByIds(diaryIds, now);
+        diaryQARepository.softDeleteByDiaryIds(diaryIds, now);
+        diaryPhotoRepository.softDeleteByDiaryIds(diaryIds, now);
 
-        // @Transactional 이므로 커밋 시점에 변경사항이 반영됩니다.
+        diaryResponseCache.invalidate(diaryIds, owners);
+        return deleted;
     }
 
 
     @Override
     @Transactional(readOnly = true)
-    public List<DiarySummaryDto> getDiariesByUser(UUID userId) throws Exception {
-        // 1) 유저 다이어리 전체 조회
+    public List<DiarySummaryDto> getDiariesByUser(UUID userId, DiaryListVersionVo version) throws Exception {
+        // 1) 캐시된 목록 스냅샷 (없거나 version 이 다르면 DB 에서 조립)
+        List<DiarySummarySnapshot> snapshots = diaryResponseCache
+                .getUserList(userId, version != null ? version.fingerprint() : null, () -> loadUserList(userId))
+                .getDiaries();
+
+        // 2) 커버 URL(썸네일 우선)은 한 번에 발급
+        Map<UUID, String> coverUrls = imageService.generateCoverUrlsFor(snapshots.stream()
+                .map(DiarySummarySnapshot::getFirstPhoto)
+                .filter(photo -> photo != null)
+                .map(PhotoSnapshot::getKeys)
+                .collect(Collectors.toList()));
+
+        // 3) DiarySummaryDto 조립
+        return snapshots.stream()
+                .map(snapshot -> DiarySummaryDto.builder()
+                        .diaryId(snapshot.getDiaryId())
+                        .createdAt(snapshot.getCreatedAt())
+                        .overallDaySummary(snapshot.getOverallDaySummary())
+                        .emotionTag(snapshot.getEmotionTag())
+                        .firstPhoto(snapshot.getFirstPhoto() == null
+                                ? null
+                                : toPhotoInfo(snapshot.getFirstPhoto(), coverUrls))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private DiaryListSnapshot loadUserList(UUID userId) {
+        // 유저 다이어리 전체 조회 (삭제된 다이어리·사진은 softDeleteFilter 로 SQL 에서 제외)
         List<Diary> diaries = diaryRepository.findByUserId(userId);
 
-        return diaries.stream()
-                // ① deletedAt != null 인 것은 결과에서 제외
-                .filter(diary -> diary.getDeletedAt() == null)
-                .map(diary -> {
-                    UUID dId = diary.getId();
-
-                    // ② overallDaySummary 조회
-                    String overallDaySummary = diary.getOverallDaySummary();
-
-                    // ③ 첫 번째 Photo 요약 (엔티티 + READ-PAR URL)
-                    PhotoInfoDto firstPhoto = diaryPhotoRepository.findByDiaryId(dId)
-                            .stream().findFirst()
-                            .map(photo -> {
-                                ReadSessionResponse session;
-                                try {
-                                    // imageService 를 통해 ReadSession 생성
-                                    session = imageService.generateReadSession(dId);
-                                } catch (Exception e) {
-                                    throw new RuntimeException(e);
-                                }
-                                ImageData imageData = session.getImages().stream()
-                                        .filter(i -> i.getId().equals(photo.getId().toString()))
-                                        .findFirst().orElse(null);
-
-                                return PhotoInfoDto.builder()
-                                        .photoId(photo.getId())
-                                        .url(imageData != null ? imageData.getUrl() : null)
-                                        .latitude(photo.getLatitude())
-                                        .longitude(photo.getLongitude())
-                                        .build();
-                            })
-                            .orElse(null);
-
-                    // ④ DiarySummaryDto 조립
-                    return DiarySummaryDto.builder()
-                            .diaryId(dId)
-                            .createdAt(diary.getCreatedAt())
-                            .overallDaySummary(overallDaySummary)
-                            .emotionTag(diary.getEmotion().name())
-                            .firstPhoto(firstPhoto)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 다이어리별 첫 번째 Photo — 한 번의 IN 조회, 페이지 조회와 같은 (createdAt, id) 순서의 첫 사진
+        Map<UUID, DiaryPhoto> firstPhotos = new HashMap<>();
+        if (!diaries.isEmpty()) {
+            List<UUID> diaryIds = diaries.stream().map(Diary::getId).toList();
+            for (DiaryPhoto photo : diaryPhotoRepository.findByDiaryIdInOrderByCreatedAtAscIdAsc(diaryIds)) {
+                firstPhotos.putIfAbsent(photo.getDiary().getId(), photo);
+            }
+        }
+
+        long revisionSum = 0;
+        LocalDateTime lastCreatedAt = null;
+        List<DiarySummarySnapshot> snapshots = new ArrayList<>(diaries.size());
+        for (Diary diary : diaries) {
+            revisionSum += diary.getRevision();
+            if (lastCreatedAt == null || diary.getCreatedAt().isAfter(lastCreatedAt)) {
+                lastCreatedAt = diary.getCreatedAt();
+            }
+
+            DiaryPhoto cover = firstPhotos.get(diary.getId());
+            PhotoSnapshot firstPhoto = cover != null ? toSnapshot(cover) : null;
+            snapshots.add(new DiarySummarySnapshot(
+                    diary.getId(),
+                    diary.getCreatedAt(),
+                    diary.getOverallDaySummary(),
+                    diary.getEmotion().name(),
+                    firstPhoto
+            ));
+        }
+
+        // 스냅샷을 만든 시점의 버전 (findListVersion 과 같은 계산)
+        String version = new DiaryListVersionVo((long) diaries.size(), revisionSum, lastCreatedAt).fingerprint();
+        return new DiaryListSnapshot(version, snapshots);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UUID> getAllUserIds() {
-        // Diary 테이블에서 삭제되지 않은(digestEntries 제외) 모든 userId를 distinct 조회
-        return diaryRepository.findAll().stream()
-                .filter(diary -> diary.getDeletedAt() == null) // 삭제 안된 것만
-                .map(Diary::getUserId)
-                .filter(userId -> userId != null) // userId가 null이 아닌 것만
-                .distinct()
+    public DiaryPageDto getDiaryPage(UUID userId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, maxPageLimit));
+
+        // 1) 다이어리 + 첫 번째 사진을 한 쿼리로 조회 (다음 페이지 유무 판단용으로 1건 더)
+        List<DiaryListVo> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = diaryRepository.findListPage(userId, Limit.of(size + 1));
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = diaryRepository.findListPageAfter(userId,
+                    LocalDateTime.parse(position[0]), UUID.fromString(position[1]), Limit.of(size + 1));
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<DiaryListVo> page = hasNext ? rows.subList(0, size) : rows;
+
+        // 2) 이 페이지의 커버 URL 만 발급
+        List<CoverPhotoVo> covers = page.stream()
+                .map(DiaryListVo::toCoverPhoto)
+                .filter(cover -> cover != null)
                 .collect(Collectors.toList());
+        Map<UUID, String> coverUrls = imageService.generateCoverUrlsFor(covers);
+
+        List<DiarySummaryDto> items = page.stream()
+                .map(row -> DiarySummaryDto.builder()
+                        .diaryId(row.getDiaryId())
+                        .createdAt(row.getCreatedAt())
+                        .overallDaySummary(row.getOverallDaySummary())
+                        .emotionTag(row.getEmotion() != null ? row.getEmotion().name() : null)
+                        .firstPhoto(row.getPhotoId() == null ? null : PhotoInfoDto.builder()
+                                .photoId(row.getPhotoId())
+                                .url(coverUrls.get(row.getPhotoId()))
+                                .latitude(row.getLatitude())
+                                .longitude(row.getLongitude())
+                                .build())
+                        .build())
+                .collect(Collectors.toList());
+
+        DiaryListVo last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return DiaryPageDto.builder()
+                .items(items)
+                .nextCursor(hasNext ? encodeCursor(last.getCreatedAt(), last.getDiaryId()) : null)
+                .build();
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public String getUserLocale(UUID userId) {
-        // 첫 번째 다이어리에서 locale 추출 (모든 다이어리에 동일하다고 가정)
-        return diaryRepository.findByUserId(userId).stream()
-                .findFirst()
-                .map(Diary::getUserLocale)
-                .orElse("ko");
+    /** 커서 = base64url("createdAt|diaryId") — 클라이언트는 내용을 해석하지 않는다 */
+    private static String encodeCursor(LocalDateTime createdAt, UUID diaryId) {
+        String raw = createdAt + "|" + diaryId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] position = raw.split("\\|", 2);
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            // 형식 검증
+            LocalDateTime.parse(position[0]);
+            UUID.fromString(position[1]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<DigestRequestEntryDto> getEntriesForDigest(
-            UUID userId,
+    public List<DigestRequestDto> getDigestRequests(
+            Collection<UUID> userIds,
             LocalDateTime periodStart,
             LocalDateTime periodEnd
     ) {
-        // 1) 기간 내 다이어리 조회
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 1) 기간 내 다이어리 (사용자 전체 1회)
         List<Diary> diaries = diaryRepository
-                .findByUserIdAndCreatedAtBetween(userId, periodStart, periodEnd);
-
-        // 2) 각 Diary → DigestRequestEntryDto 매핑
-        return diaries.stream().map(diary -> {
-            // QA 목록 - DigestQuestionDto 사용, index를 1부터 순서대로
-            List<DiaryQA> qaList = diaryQARepository.findByDiaryId(diary.getId());
-            List<DigestQuestionDto> questions = IntStream.range(0, qaList.size())
-                    .<DigestQuestionDto>mapToObj(i -> {
-                        DiaryQA qa = qaList.get(i);
-                        return DigestQuestionDto.builder()
-                                .index(i + 1)
-                                .question(qa.getAiQuestion())
-                                .answer(qa.getUserAnswer())
-                                .build();
-                    })
-                    .collect(Collectors.toList());
-
-            // Photo 매핑 - index를 1부터 순서대로, capturedAt 제거
-            List<DiaryPhoto> photoList = diaryPhotoRepository.findByDiaryId(diary.getId());
-            List<DigestPhotoInfoDto> imageDescriptions = IntStream.range(0, photoList.size())
-                    .<DigestPhotoInfoDto>mapToObj(i -> {
-                        DiaryPhoto photo = photoList.get(i);
-                        return DigestPhotoInfoDto.builder()
-                                .index(i + 1)
-                                .description(photo.getDescription())
-                                .latitude(photo.getLatitude())
-                                .longitude(photo.getLongitude())
-                                .build();
-                    })
-                    .collect(Collectors.toList());
-
-            return DigestRequestEntryDto.builder()
-                    .id(diary.getId().toString())  // diaryId → id, String 타입으로
-                    .date(diary.getCreatedAt())     // createdAt → date
-                    .emotion(diary.getEmotion().name())  // emotionTag → emotion, String 타입으로
-                    .imageDescriptions(imageDescriptions)  // photos → imageDescriptions
-                    .overallDaySummary(diary.getOverallDaySummary())
-                    .questions(questions)  // answers → questions, DigestQuestionDto 사용
-                    .build();
-        }).collect(Collectors.toList());
+                .findByUserIdInAndCreatedAtBetweenOrderByCreatedAtAscIdAsc(userIds, periodStart, periodEnd);
+        Map<UUID, List<Diary>> diariesByUser = diaries.stream()
+                .collect(Collectors.groupingBy(Diary::getUserId));
+
+        // 2) QA·사진 (다이어리 전체 각 1회) — 작성순이 index 순서
+        Map<UUID, List<DiaryQA>> qasByDiary = Map.of();
+        Map<UUID, List<DiaryPhoto>> photosByDiary = Map.of();
+        if (!diaries.isEmpty()) {
+            List<UUID> diaryIds = diaries.stream().map(Diary::getId).toList();
+            qasByDiary = diaryQARepository.findByDiaryIdInOrderByCreatedAtAscIdAsc(diaryIds).stream()
+                    .collect(Collectors.groupingBy(qa -> qa.getDiary().getId()));
+            photosByDiary = diaryPhotoRepository.findByDiaryIdInOrderByCreatedAtAscIdAsc(diaryIds).stream()
+                    .collect(Collectors.groupingBy(photo -> photo.getDiary().getId()));
+        }
+
+        // 3) 사용자별 조립 (locale 은 기간 내 첫 다이어리 기준, 모든 다이어리에 동일하다고 가정)
+        List<DigestRequestDto> requests = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            List<Diary> userDiaries = diariesByUser.getOrDefault(userId, List.of());
+            List<DigestRequestEntryDto> entries = new ArrayList<>(userDiaries.size());
+            for (Diary diary : userDiaries) {
+                entries.add(toDigestEntry(diary,
+                        qasByDiary.getOrDefault(diary.getId(), List.of()),
+                        photosByDiary.getOrDefault(diary.getId(), List.of())));
+            }
+            requests.add(DigestRequestDto.builder()
+                    .id(userId.toString())
+                    .userLocale(userDiaries.isEmpty() ? "ko" : userDiaries.get(0).getUserLocale())
+                    .entries(entries)
+                    .build());
+        }
+        return requests;
+    }
+
+    private DigestRequestEntryDto toDigestEntry(Diary diary, List<DiaryQA> qaList, List<DiaryPhoto> photoList) {
+        // QA 목록 - DigestQuestionDto 사용, index를 1부터 순서대로
+        List<DigestQuestionDto> questions = IntStream.range(0, qaList.size())
+                .<DigestQuestionDto>mapToObj(i -> {
+                    DiaryQA qa = qaList.get(i);
+                    return DigestQuestionDto.builder()
+                            .index(i + 1)
+                            .question(qa.getAiQuestion())
+                            .answer(qa.getUserAnswer())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        // Photo 매핑 - index를 1부터 순서대로, capturedAt 제거
+        List<DigestPhotoInfoDto> imageDescriptions = IntStream.range(0, photoList.size())
+                .<DigestPhotoInfoDto>mapToObj(i -> {
+                    DiaryPhoto photo = photoList.get(i);
+                    return DigestPhotoInfoDto.builder()
+                            .index(i + 1)
+                            .description(photo.getDescription())
+                            .latitude(photo.getLatitude())
+                            .longitude(photo.getLongitude())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return DigestRequestEntryDto.builder()
+                .id(diary.getId().toString())  // diaryId → id, String 타입으로
+                .date(diary.getCreatedAt())     // createdAt → date
+                .emotion(diary.getEmotion().name())  // emotionTag → emotion, String 타입으로
+                .imageDescriptions(imageDescriptions)  // photos → imageDescriptions
+                .overallDaySummary(diary.getOverallDaySummary())
+                .questions(questions)  // answers → questions, DigestQuestionDto 사용
+                .build();
     }
 }
@@ -6,14 +6,18 @@ import com.oracle.bmc.queue.QueueClient;
 import com.oracle.bmc.queue.model.MessageMetadata;
 import com.oracle.bmc.queue.model.PutMessagesDetails;
 import com.oracle.bmc.queue.model.PutMessagesDetailsEntry;
+import com.oracle.bmc.queue.model.PutMessagesResultEntry;
 import com.oracle.bmc.queue.requests.PutMessagesRequest;
+import com.oracle.bmc.queue.responses.PutMessagesResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
@@ -32,42 +36,69 @@ public class DigestQueueService {
     /**
      * Iterable 단위로 받은 DigestRequestDto 목록을
      * OCI Queue의 'digest' 채널로 전송합니다.
+     *
+     * 건별 결과를 돌려준다: 직렬화에 실패했거나 Queue 가 거절한 요청의 id(사용자 id) → 사유.
+     * putMessages 호출 자체가 실패하면(전송 여부 불명) 예외를 던진다.
      */
-    public void sendDigestRequests(Iterable<? extends DigestRequestDto> items) {
-        try {
-            var entries = StreamSupport.stream(items.spliterator(), false)
-                    .map(dto -> {
-                        try {
-                            String body = objectMapper.writeValueAsString(dto);
-                            return PutMessagesDetailsEntry.builder()
-                                    .content(body)
-                                    .metadata(
-                                            MessageMetadata.builder()
-                                                    .channelId(channelId)
-                                                    .build()
-                                    )
-                                    .build();
-                        } catch (Exception ex) {
-                            throw new RuntimeException("Failed to serialize DigestRequestDto", ex);
-                        }
-                    })
-                    .collect(Collectors.toList());
+    public Map<String, String> sendDigestRequests(Iterable<? extends DigestRequestDto> items) {
+        Map<String, String> failed = new LinkedHashMap<>();
+        List<String> sentIds = new ArrayList<>();
+        List<PutMessagesDetailsEntry> entries = new ArrayList<>();
+        for (DigestRequestDto dto : items) {
+            try {
+                String body = objectMapper.writeValueAsString(dto);
+                entries.add(PutMessagesDetailsEntry.builder()
+                        .content(body)
+                        .metadata(
+                                MessageMetadata.builder()
+                                        .channelId(channelId)
+                                        .build()
+                        )
+                        .build());
+                sentIds.add(dto.getId());
+            } catch (Exception ex) {
+                log.error("DigestRequestDto 직렬화 실패: id={}", dto.getId(), ex);
+                failed.put(dto.getId(), "직렬화 실패: " + ex.getMessage());
+            }
+        }
+        if (entries.isEmpty()) {
+            return failed;
+        }
 
+        PutMessagesResponse response;
+        try {
             var details = PutMessagesDetails.builder()
                     .messages(entries)
                     .build();
 
-            queueClient.putMessages(
+            response = queueClient.putMessages(
                     PutMessagesRequest.builder()
                             .queueId(queueId)
                             .putMessagesDetails(details)
                             .build()
             );
-
-            log.info("Enqueued {} Digest items on channel=[{}]", entries.size(), channelId);
         } catch (Exception e) {
             log.error("Failed to enqueue Digest items", e);
             throw new RuntimeException("OCI Queue 전송 실패", e);
         }
+
+        // 결과 항목은 요청 순서와 같다 — error 가 있는 항목만 실패
+        List<PutMessagesResultEntry> results = response.getPutMessages() != null
+                ? response.getPutMessages().getMessages()
+                : null;
+        int rejected = 0;
+        if (results != null) {
+            for (int i = 0; i < results.size() && i < sentIds.size(); i++) {
+                PutMessagesResultEntry result = results.get(i);
+                if (result.getError() != null) {
+                    failed.put(sentIds.get(i), result.getError() + ": " + result.getErrorMessage());
+                    rejected++;
+                }
+            }
+        }
+
+        log.info("Enqueued {} Digest items on channel=[{}] ({} rejected)",
+                entries.size() - rejected, channelId, rejected);
+        return failed;
     }
 }
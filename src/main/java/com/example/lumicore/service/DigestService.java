@@ -5,24 +5,33 @@ import com.example.lumicore.dto.digest.DigestEntryDetailDto;
 import com.example.lumicore.dto.digest.DigestSummaryDto;
 import com.example.lumicore.dto.digest.response.DigestResponseDto;
 import com.example.lumicore.dto.digest.response.EntryDigest;
-import com.example.lumicore.dto.readSession.ReadSessionResponse;
 import com.example.lumicore.jpa.entity.Diary;
 import com.example.lumicore.jpa.entity.DiaryPhoto;
 import com.example.lumicore.jpa.entity.Digest;
 import com.example.lumicore.jpa.entity.DigestEntry;
+import com.example.lumicore.jpa.entity.DigestLedger;
 import com.example.lumicore.jpa.repository.DiaryRepository;
 import com.example.lumicore.jpa.repository.DigestEntryRepository;
 import com.example.lumicore.jpa.repository.DigestRepository;
+import com.example.lumicore.service.ledger.DigestLedgerService;
+import com.example.lumicore.vo.DigestVersionVo;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Slf4j
 @Service
@@ -33,6 +42,7 @@ public class DigestService {
     private final DiaryRepository diaryRepository;
     private final DigestEntryRepository digestEntryRepository;
     private final ImageService imageService;
+    private final DigestLedgerService digestLedgerService;
 
     @Transactional
     public UUID saveDigestFromResponse(DigestResponseDto dto) {
@@ -61,21 +71,39 @@ public class DigestService {
             throw new IllegalArgumentException("Period end date cannot be null or empty");
         }
         
-        // 1) Digest 생성 및 저장
+        // 1) 같은 사용자·기간 이력을 잠그고 Digest upsert (중복 응답이면 내용 교체)
+        UUID userId = UUID.fromString(dto.getId());
         LocalDate startDate = LocalDate.parse(startDateStr.trim());
         LocalDate endDate = LocalDate.parse(endDateStr.trim());
-        Digest digest = Digest.builder()
-                .userId(UUID.fromString(dto.getId()))
-                .periodStart(startDate)
-                .periodEnd(endDate)
-                .title(dto.getTitle())
-                .overallEmotion(dto.getOverallEmotion())
-                .activity(dto.getAiInsights().getActivity())
-                .emotionTrend(dto.getAiInsights().getEmotionTrend())
-                .specialMoment(dto.getAiInsights().getSpecialMoment())
-                .digestSummary(dto.getDigestSummary())  // Digest 전체 요약
-                .build();
-        digest = digestRepository.save(digest);
+        DigestLedger ledger = digestLedgerService.lockForResponse(userId, startDate, endDate);
+
+        Digest digest = Optional.ofNullable(ledger.getDigestId())
+                .flatMap(digestRepository::findById)
+                .or(() -> digestRepository.findFirstByUserIdAndPeriodStartAndPeriodEndOrderByIdAsc(userId, startDate, endDate))
+                .orElse(null);
+        if (digest != null) {
+            log.info("기존 Digest 갱신: digestId={}, userId={}, 기간 {} ~ {}", digest.getId(), userId, startDate, endDate);
+            digest.updateContent(
+                    dto.getTitle(),
+                    dto.getOverallEmotion(),
+                    dto.getAiInsights().getActivity(),
+                    dto.getAiInsights().getEmotionTrend(),
+                    dto.getAiInsights().getSpecialMoment(),
+                    dto.getDigestSummary());
+        } else {
+            digest = Digest.builder()
+                    .userId(userId)
+                    .periodStart(startDate)
+                    .periodEnd(endDate)
+                    .title(dto.getTitle())
+                    .overallEmotion(dto.getOverallEmotion())
+                    .activity(dto.getAiInsights().getActivity())
+                    .emotionTrend(dto.getAiInsights().getEmotionTrend())
+                    .specialMoment(dto.getAiInsights().getSpecialMoment())
+                    .digestSummary(dto.getDigestSummary())  // Digest 전체 요약
+                    .build();
+            digest = digestRepository.save(digest);
+        }
 
         // 2) 각 Entry 처리
         if (dto.getEntries() != null) {
@@ -87,8 +115,11 @@ public class DigestService {
                 Diary diary = diaryRepository.findById(diaryId)
                         .orElseThrow(() -> new EntityNotFoundException("Diary not found: " + diaryId));
 
-                // 중복 체크 후 DigestEntry 생성
-                if (!digestEntryRepository.existsByDigestIdAndDiaryId(digest.getId(), diaryId)) {
+                // 이미 있는 엔트리는 요약만 갱신, 없으면 생성
+                Optional<DigestEntry> existing = digestEntryRepository.findByDigestIdAndDiaryId(digest.getId(), diaryId);
+                if (existing.isPresent()) {
+                    existing.get().updateDiarySummary(entryDto.getDiarySummary());
+                } else {
                     DigestEntry entry = DigestEntry.builder()
                             .digest(digest)
                             .diary(diary)
@@ -104,6 +135,9 @@ public class DigestService {
             }
         }
 
+        // 3) 이력 완료 처리 — 이후 Batch 실행에서 이 사용자·기간은 건너뜀
+        ledger.complete(digest.getId(), LocalDateTime.now());
+
         return digest.getId();
     }
 
@@ -117,7 +151,21 @@ public class DigestService {
     /** userId에 해당하는 Digest 요약 정보 리스트 반환 */
     @Transactional(readOnly = true)
     public List<DigestSummaryDto> getDigestsByUser(UUID userId) {
-        return digestRepository.findAllByUserId(userId).stream()
+        List<Digest> digests = digestRepository.findAllByUserId(userId);
+
+        // 첫번째 엔트리의 첫번째 포토를 커버로 사용, URL(썸네일 우선)은 한 번에 발급
+        Map<UUID, DiaryPhoto> covers = new LinkedHashMap<>();
+        for (Digest d : digests) {
+            if (!d.getEntries().isEmpty()) {
+                Diary diary = d.getEntries().get(0).getDiary();
+                if (!diary.getPhotos().isEmpty()) {
+                    covers.put(d.getId(), diary.getPhotos().get(0));
+                }
+            }
+        }
+        Map<UUID, String> coverUrls = coverUrls(covers.values());
+
+        return digests.stream()
                 .map(d -> {
                     DigestSummaryDto dto = new DigestSummaryDto();
                     dto.setId(d.getId());
@@ -125,31 +173,22 @@ public class DigestService {
                     dto.setPeriodStart(d.getPeriodStart());
                     dto.setPeriodEnd(d.getPeriodEnd());
                     dto.setSummary(d.getDigestSummary());
-                    
-                    // 첫번째 엔트리의 첫번째 포토에서 READ PAR URL 생성
-                    String imageUrl = null;
-                    if (!d.getEntries().isEmpty()) {
-                        DigestEntry firstEntry = d.getEntries().get(0);
-                        Diary diary = firstEntry.getDiary();
-                        if (!diary.getPhotos().isEmpty()) {
-                            try {
-                                ReadSessionResponse session = imageService.generateReadSession(diary.getId());
-                                if (!session.getImages().isEmpty()) {
-                                    imageUrl = session.getImages().get(0).getUrl();
-                                }
-                            } catch (Exception e) {
-                                // 이미지 URL 생성 실패시 null로 유지
-                                imageUrl = null;
-                            }
-                        }
-                    }
-                    dto.setImageUrl(imageUrl);
-                    
+
+                    DiaryPhoto cover = covers.get(d.getId());
+                    dto.setImageUrl(cover != null ? coverUrls.get(cover.getId()) : null);
+
                     return dto;
                 })
                 .collect(Collectors.toList());
     }
 
+    /** ETag 용 버전 (엔티티 로딩 없음) */
+    @Transactional(readOnly = true)
+    public DigestVersionVo getDigestVersion(UUID digestId) {
+        return digestRepository.findVersionById(digestId)
+                .orElseThrow(() -> new EntityNotFoundException("Digest not found: " + digestId));
+    }
+
     @Transactional(readOnly = true)
     public DigestDetailDto getDigestDetails(UUID digestId) {
         Digest d = digestRepository.findById(digestId)
@@ -167,6 +206,14 @@ public class DigestService {
         dto.setSpecialMoment(d.getSpecialMoment());
         dto.setSummary(d.getDigestSummary());
 
+        // 엔트리별 첫 번째 사진의 URL(썸네일 우선)을 한 번에 발급
+        List<DiaryPhoto> firstPhotos = d.getEntries().stream()
+                .map(e -> e.getDiary().getPhotos())
+                .filter(photos -> !photos.isEmpty())
+                .map(photos -> photos.get(0))
+                .collect(Collectors.toList());
+        Map<UUID, String> coverUrls = coverUrls(firstPhotos);
+
         List<DigestEntryDetailDto> entryDtos = d.getEntries().stream()
                 .map(e -> {
                     Diary diary = e.getDiary();
@@ -182,27 +229,8 @@ public class DigestService {
                     ed.setLatitude(photo != null ? photo.getLatitude() : null);
                     ed.setLongitude(photo != null ? photo.getLongitude() : null);
                     ed.setSummary(e.getDiarySummary());
-                    
-                    // 첫번째 포토의 READ PAR URL 생성
-                    String imageUrl = null;
-                    if (photo != null) {
-                        try {
-                            ReadSessionResponse session = imageService.generateReadSession(diary.getId());
-                            if (!session.getImages().isEmpty()) {
-                                // 해당 photo의 URL을 찾거나 첫번째 URL 사용
-                                imageUrl = session.getImages().stream()
-                                        .filter(imageData -> imageData.getId().equals(photo.getId().toString()))
-                                        .findFirst()
-                                        .orElse(session.getImages().get(0))
-                                        .getUrl();
-                            }
-                        } catch (Exception ex) {
-                            // 이미지 URL 생성 실패시 null로 유지
-                            imageUrl = null;
-                        }
-                    }
-                    ed.setImageUrl(imageUrl);
-                    
+                    ed.setImageUrl(photo != null ? coverUrls.get(photo.getId()) : null);
+
                     return ed;
                 })
                 .collect(Collectors.toList());
@@ -210,4 +238,14 @@ public class DigestService {
         dto.setEntries(entryDtos);
         return dto;
     }
-}
\ No newline at end of file
+
+    /** 이미지 URL 생성 실패시 해당 사진은 null 로 유지 */
+    private Map<UUID, String> coverUrls(Collection<DiaryPhoto> photos) {
+        try {
+            return imageService.generateCoverUrls(new ArrayList<>(photos));
+        } catch (Exception e) {
+            log.warn("커버 이미지 URL 생성 실패", e);
+            return Collections.emptyMap();
+        }
+    }
+}
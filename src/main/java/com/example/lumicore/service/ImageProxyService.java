@@ -0,0 +1,153 @@
+package com.example.lumicore.service;
+
+import com.example.lumicore.jpa.entity.DiaryPhoto;
+import com.example.lumicore.jpa.repository.DiaryPhotoRepository;
+import com.example.lumicore.storage.ByteRange;
+import com.example.lumicore.storage.ObjectContent;
+import com.example.lumicore.storage.ObjectMetadata;
+import com.example.lumicore.storage.ObjectStorageException;
+import com.example.lumicore.storage.ObjectStoragePort;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Object Storage 의 사진 본문을 응답으로 그대로 흘려보내는 프록시
+ *
+ * 본문은 고정 크기 버퍼로 복사만 하며 힙에 전체를 올리지 않는다.
+ * Range(단일 구간)와 If-None-Match / If-Modified-Since 를 지원한다.
+ * 썸네일 요청인데 아직 썸네일이 없으면 원본을 캐시 불가(private, no-cache)로 내려준다.
+ * 삭제된 사진은 404.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageProxyService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectStoragePort objectStorage;
+    private final DiaryPhotoRepository diaryPhotoRepository;
+
+    @Value("${app.image.proxy-max-age-seconds:3600}")
+    private long maxAgeSeconds;
+
+    public void stream(UUID photoId,
+                       boolean thumbnail,
+                       long expires,
+                       String rangeHeader,
+                       String ifNoneMatch,
+                       long ifModifiedSince,
+                       HttpServletResponse response) throws IOException {
+        // findById 는 soft delete 필터가 적용되지 않으므로 직접 확인
+        DiaryPhoto photo = diaryPhotoRepository.findById(photoId)
+                .filter(p -> p.getDeletedAt() == null)
+                .orElseThrow(() -> new EntityNotFoundException("DiaryPhoto not found: " + photoId));
+        boolean thumbnailFallback = thumbnail && photo.getThumbnailKey() == null;
+        String objectKey;
+        if (thumbnail && !thumbnailFallback) {
+            objectKey = photo.getThumbnailKey();
+        } else {
+            objectKey = photo.getObjectKey().startsWith("diary/")
+                    ? photo.getObjectKey()
+                    : "diary/" + photo.getObjectKey();
+        }
+
+        ByteRange range = parseRange(rangeHeader);
+        ObjectContent object;
+        try {
+            object = objectStorage.get(objectKey, range, ifNoneMatch);
+        } catch (ObjectStorageException e) {
+            log.warn("사진 프록시 조회 실패: photoId={}, status={}", photoId, e.getStatusCode());
+            response.sendError(e.getStatusCode() == 416
+                    ? HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()
+                    : e.getStatusCode() == 404 ? HttpStatus.NOT_FOUND.value() : HttpStatus.BAD_GATEWAY.value());
+            return;
+        }
+
+        ObjectMetadata metadata = object.getMetadata();
+        if (thumbnailFallback) {
+            // 썸네일 URL 로 원본을 내려주는 임시 응답 — CDN 이 썸네일 자리에 원본을 캐시하지 않도록
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        } else {
+            // 서명 URL 만료 전까지만 공유 캐시에 보관되도록 max-age 제한
+            long remaining = Math.max(0, expires - Instant.now().getEpochSecond());
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    "public, max-age=" + Math.min(remaining, maxAgeSeconds) + ", immutable");
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (metadata.getETag() != null) {
+            response.setHeader(HttpHeaders.ETAG, metadata.getETag());
+        }
+        if (metadata.getLastModified() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, metadata.getLastModified().getTime());
+        }
+
+        try (object) {
+            if (object.isNotModified() || isNotModifiedSince(metadata, ifModifiedSince, ifNoneMatch)) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return;
+            }
+
+            if (metadata.getContentType() != null) {
+                response.setContentType(metadata.getContentType());
+            }
+            response.setContentLengthLong(object.getLength());
+            if (object.isPartial()) {
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + object.getRangeStart()
+                        + "-" + object.getRangeEnd() + "/" + metadata.getContentLength());
+            }
+
+            InputStream body = object.getBody();
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.flush();
+        }
+    }
+
+    /** If-None-Match 가 없을 때만 If-Modified-Since 로 판단 */
+    private boolean isNotModifiedSince(ObjectMetadata metadata, long ifModifiedSince, String ifNoneMatch) {
+        return ifNoneMatch == null
+                && ifModifiedSince > 0
+                && metadata.getLastModified() != null
+                && metadata.getLastModified().getTime() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /** "bytes=start-end" / "bytes=start-" / "bytes=-suffix" 단일 구간만 지원, 그 외는 전체 응답 */
+    private ByteRange parseRange(String header) {
+        if (header == null || !header.startsWith("bytes=") || header.contains(",")) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String start = spec.substring(0, dash).trim();
+            String end = spec.substring(dash + 1).trim();
+            return new ByteRange(
+                    start.isEmpty() ? null : Long.parseLong(start),
+                    end.isEmpty() ? null : Long.parseLong(end)
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
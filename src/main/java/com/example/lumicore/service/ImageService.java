@@ -1,9 +1,15 @@
 package com.example.lumicore.service;
 
 import com.example.lumicore.dto.readSession.ReadSessionResponse;
+import com.example.lumicore.dto.uploadSession.IngestResponse;
 import com.example.lumicore.dto.uploadSession.UploadParRequest;
 import com.example.lumicore.dto.uploadSession.UploadSessionResponse;
+import com.example.lumicore.jpa.entity.DiaryPhoto;
+import com.example.lumicore.vo.CoverPhotoVo;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ImageService {
@@ -12,6 +18,19 @@ public interface ImageService {
 
     ReadSessionResponse generateReadSession(UUID diaryId) throws Exception;
 
+    /** PAR 로 직접 PUT 할 수 없는 클라이언트용 서버 경유 업로드 */
+    IngestResponse ingestPhoto(UUID diaryId, String fileName, String contentType,
+                               long contentLength, InputStream body) throws Exception;
+
     /** WebSocket 연결 시 분석용 READ-PAR 생성 */
     ReadSessionResponse createAnalysisReadPar(UUID diaryId) throws Exception;
+
+    /** 목록·커버 이미지용 URL (썸네일 우선) — photoId → URL */
+    Map<UUID, String> generateCoverUrls(List<DiaryPhoto> photos);
+
+    /** 엔티티 없이 키만 조회한 경우(목록 프로젝션)의 커버 URL */
+    Map<UUID, String> generateCoverUrlsFor(List<CoverPhotoVo> photos);
+
+    /** 원본 사진 URL — photoId → URL (발급 실패 시 누락) */
+    Map<UUID, String> generateReadUrlsFor(List<CoverPhotoVo> photos);
 }
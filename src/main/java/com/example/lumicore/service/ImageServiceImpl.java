@@ -2,6 +2,7 @@ package com.example.lumicore.service;
 
 import com.example.lumicore.dto.readSession.ImageData;
 import com.example.lumicore.dto.readSession.ReadSessionResponse;
+import com.example.lumicore.dto.uploadSession.IngestResponse;
 import com.example.lumicore.dto.uploadSession.UploadParDto;
 import com.example.lumicore.dto.uploadSession.UploadParRequest;
 import com.example.lumicore.dto.uploadSession.UploadSessionResponse;
@@ -9,14 +10,21 @@ import com.example.lumicore.jpa.entity.Diary;
 import com.example.lumicore.jpa.entity.DiaryPhoto;
 import com.example.lumicore.jpa.repository.DiaryPhotoRepository;
 import com.example.lumicore.jpa.repository.DiaryRepository;
-import com.oracle.bmc.objectstorage.ObjectStorage;
+import com.example.lumicore.service.par.ParIssuer;
+import com.example.lumicore.service.par.ParResult;
+import com.example.lumicore.service.par.ParSpec;
+import com.example.lumicore.service.par.ReadParCache;
+import com.example.lumicore.storage.ObjectStoragePort;
+import com.example.lumicore.storage.PutResult;
+import com.example.lumicore.vo.CoverPhotoVo;
 import com.oracle.bmc.objectstorage.model.CreatePreauthenticatedRequestDetails;
-import com.oracle.bmc.objectstorage.requests.CreatePreauthenticatedRequestRequest;
-import com.oracle.bmc.objectstorage.responses.CreatePreauthenticatedRequestResponse;
 import com.oracle.bmc.queue.QueueClient;
 import com.oracle.bmc.queue.model.PutMessagesDetails;
 import com.oracle.bmc.queue.model.PutMessagesDetailsEntry;
 import com.oracle.bmc.queue.requests.PutMessagesRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,42 +33,70 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.util.Date;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.Collections;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ImageServiceImpl implements ImageService {
 
-    private final ObjectStorage objectStorage;
+    private static final String PAR_MODE_PREFIX = "prefix";
+    private static final String READ_URL_MODE_SIGNED = "signed";
+    private static final DateTimeFormatter CAPTURED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     private final DiaryRepository diaryRepository;
     private final DiaryPhotoRepository diaryPhotoRepository;
     private final QueueClient queueClient;
+    private final ReadParCache readParCache;
+    private final ParIssuer parIssuer;
+    private final SignedImageUrlService signedImageUrlService;
+    private final ObjectStoragePort objectStorage;
+    private final MeterRegistry meterRegistry;
 
-    @Value("${oci.objectstorage.namespace}")
-    private String namespaceName;
+    @Value("${oci.queue.id}")
+    private String queueId;
 
-    @Value("${oci.objectstorage.bucket}")
-    private String bucketName;
+    /** object: 사진마다 PAR 발급, prefix: 다이어리 prefix 당 PAR 1건 */
+    @Value("${app.par.mode:object}")
+    private String parMode;
 
-    @Value("${oci.objectstorage.uri-prefix}")
-    private String uriPrefix;
+    /** par: OCI READ-PAR, signed: /core/images/{photoId} HMAC 서명 URL */
+    @Value("${app.image.read-url-mode:par}")
+    private String readUrlMode;
 
-    @Value("${oci.queue.id}")
-    private String queueId;
+    @Value("${app.par.write-ttl-minutes:60}")
+    private long writeParTtlMinutes;
 
-    private String buildFullUri(String accessPath) {
-        // accessPath 는 "/p/…/o/diary/파일명" 형태로 시작
-        if (uriPrefix.endsWith("/")) {
-            return uriPrefix.substring(0, uriPrefix.length() - 1) + accessPath;
-        }
-        return uriPrefix + accessPath;
+    @Value("${app.par.read-ttl-minutes:60}")
+    private long readParTtlMinutes;
+
+    /** 동시에 진행할 수 있는 서버 경유 업로드 수 — UploadManager 파트 버퍼 총량의 상한 */
+    @Value("${app.upload.ingest.max-concurrent:4}")
+    private int maxConcurrentIngests;
+
+    @Value("${app.upload.ingest.acquire-timeout-ms:2000}")
+    private long ingestAcquireTimeoutMs;
+
+    private Semaphore ingestSlots;
+
+    @PostConstruct
+    void initIngestSlots() {
+        ingestSlots = new Semaphore(maxConcurrentIngests, true);
     }
 
     @Override
@@ -69,53 +105,153 @@ public class ImageServiceImpl implements ImageService {
         UUID diaryId = diary.getId();
         log.info("새 Diary 생성: diaryId={}", diaryId);
 
-        Date expiresAt = Date.from(
-                OffsetDateTime.now(ZoneId.systemDefault())
-                        .plusHours(1)
-                        .toInstant()
-        );
-
-        List<UploadParDto> pars = request.getFileNames().stream().map(name -> {
-            try {
-                String objectKey = "diary/" + UUID.randomUUID() + "_" + name;
-                log.debug("WRITE-PAR 준비: objectKey={}", objectKey);
-
-                CreatePreauthenticatedRequestDetails details =
-                        CreatePreauthenticatedRequestDetails.builder()
-                                .name("upload-" + UUID.randomUUID())
-                                .objectName(objectKey)
-                                .accessType(CreatePreauthenticatedRequestDetails.AccessType.ObjectWrite)
-                                .timeExpires(expiresAt)
-                                .build();
-
-                CreatePreauthenticatedRequestRequest parReq =
-                        CreatePreauthenticatedRequestRequest.builder()
-                                .namespaceName(namespaceName)
-                                .bucketName(bucketName)
-                                .createPreauthenticatedRequestDetails(details)
-                                .build();
-
-                CreatePreauthenticatedRequestResponse parResp =
-                        objectStorage.createPreauthenticatedRequest(parReq);
-
-                String uploadUri = buildFullUri(
-                        parResp.getPreauthenticatedRequest().getAccessUri()
-                );
-                log.debug("WRITE-PAR 생성: name={} → uploadUri={}", name, uploadUri);
-
-                DiaryPhoto photo = DiaryPhoto.of(diary, objectKey);
-                diaryPhotoRepository.save(photo);
-                log.debug("DiaryPhoto row 생성: photoId={}, objectKey={}", photo.getId(), objectKey);
-
-                return new UploadParDto(photo.getId(), uploadUri);
-
-            } catch (Exception e) {
-                log.error("WRITE-PAR 생성 실패: {}", name, e);
-                throw new RuntimeException(e);
+        return PAR_MODE_PREFIX.equals(parMode)
+                ? startPrefixUploadSession(diary, request.getFileNames())
+                : startObjectUploadSession(diary, request.getFileNames());
+    }
+
+    /** 파일별 ObjectWrite PAR 발급 (기본 모드) */
+    private UploadSessionResponse startObjectUploadSession(Diary diary, List<String> fileNames) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(writeParTtlMinutes);
+
+        // 1) 파일별 objectKey 와 WRITE-PAR 명세 준비
+        List<ParSpec> specs = new ArrayList<>(fileNames.size());
+        for (String name : fileNames) {
+            String objectKey = "diary/" + UUID.randomUUID() + "_" + name;
+            log.debug("WRITE-PAR 준비: objectKey={}", objectKey);
+            specs.add(new ParSpec(
+                    "upload-" + UUID.randomUUID(),
+                    objectKey,
+                    CreatePreauthenticatedRequestDetails.AccessType.ObjectWrite,
+                    expiresAt
+            ));
+        }
+
+        // 2) WRITE-PAR 병렬 발급 (순서 유지)
+        List<ParResult> results = parIssuer.issueAll(specs);
+
+        // 3) 발급에 성공한 파일만 DiaryPhoto row 생성, 실패한 파일은 사유와 함께 반환
+        UploadParDto[] pars = new UploadParDto[fileNames.size()];
+        List<DiaryPhoto> photos = new ArrayList<>(fileNames.size());
+        List<Integer> photoIndexes = new ArrayList<>(fileNames.size());
+        for (int i = 0; i < fileNames.size(); i++) {
+            String name = fileNames.get(i);
+            ParResult result = results.get(i);
+            if (!result.isSuccess()) {
+                log.error("WRITE-PAR 생성 실패: {} ({})", name, result.getError());
+                pars[i] = UploadParDto.builder()
+                        .fileName(name)
+                        .error(result.getError())
+                        .build();
+                continue;
             }
-        }).collect(Collectors.toList());
 
-        return new UploadSessionResponse(diaryId, pars);
+            log.debug("WRITE-PAR 생성: name={} → uploadUri={}", name, result.getAccessUri());
+            photos.add(DiaryPhoto.of(diary, specs.get(i).getObjectName()));
+            photoIndexes.add(i);
+        }
+
+        // 4) DiaryPhoto row 는 PAR 발급이 끝난 뒤 한 번의 JDBC 배치로 저장
+        diaryPhotoRepository.saveAll(photos);
+        log.debug("DiaryPhoto row {}건 생성: diaryId={}", photos.size(), diary.getId());
+
+        for (int j = 0; j < photos.size(); j++) {
+            int i = photoIndexes.get(j);
+            pars[i] = UploadParDto.builder()
+                    .id(photos.get(j).getId())
+                    .accessUri(results.get(i).getAccessUri())
+                    .fileName(fileNames.get(i))
+                    .build();
+        }
+
+        return new UploadSessionResponse(diary.getId(), Arrays.asList(pars));
+    }
+
+    /**
+     * diary/{diaryId}/ prefix 에 대한 AnyObjectWrite PAR 1건만 발급 (prefix 모드)
+     * 파일별 URL 은 baseUri + objectName 으로 만들어 함께 내려준다.
+     */
+    private UploadSessionResponse startPrefixUploadSession(Diary diary, List<String> fileNames) {
+        String prefix = diaryPrefix(diary.getId());
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(writeParTtlMinutes);
+
+        String baseUri = parIssuer.issue(new ParSpec(
+                "upload-" + diary.getId(),
+                prefix,
+                CreatePreauthenticatedRequestDetails.AccessType.AnyObjectWrite,
+                expiresAt
+        ));
+        log.debug("prefix WRITE-PAR 생성: prefix={} → baseUri={}", prefix, baseUri);
+
+        List<DiaryPhoto> photos = new ArrayList<>(fileNames.size());
+        for (String name : fileNames) {
+            photos.add(DiaryPhoto.of(diary, prefix + UUID.randomUUID() + "_" + name));
+        }
+
+        // DiaryPhoto row 는 한 번의 JDBC 배치로 저장
+        diaryPhotoRepository.saveAll(photos);
+        log.debug("DiaryPhoto row {}건 생성: diaryId={}", photos.size(), diary.getId());
+
+        List<UploadParDto> pars = new ArrayList<>(fileNames.size());
+        for (int i = 0; i < photos.size(); i++) {
+            DiaryPhoto photo = photos.get(i);
+            pars.add(UploadParDto.builder()
+                    .id(photo.getId())
+                    .accessUri(ParIssuer.objectUri(baseUri, photo.getObjectKey()))
+                    .fileName(fileNames.get(i))
+                    .objectName(photo.getObjectKey())
+                    .build());
+        }
+
+        return new UploadSessionResponse(diary.getId(), pars, baseUri);
+    }
+
+    /**
+     * 요청 본문을 임시 파일 없이 그대로 ObjectStoragePort.put 으로 흘려보낸 뒤 DiaryPhoto row 등록
+     * 슬롯이 없으면 acquire-timeout-ms 만큼 기다린 뒤 RejectedExecutionException 으로 거절한다.
+     */
+    @Override
+    public IngestResponse ingestPhoto(UUID diaryId, String fileName, String contentType,
+                                      long contentLength, InputStream body) throws Exception {
+        Diary diary = diaryRepository.findById(diaryId)
+                .filter(d -> d.getDeletedAt() == null)
+                .orElseThrow(() -> new EntityNotFoundException("Diary not found: " + diaryId));
+
+        if (!ingestSlots.tryAcquire(ingestAcquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new RejectedExecutionException("업로드 동시 처리 한도 초과");
+        }
+        String objectKey = PAR_MODE_PREFIX.equals(parMode)
+                ? diaryPrefix(diaryId) + UUID.randomUUID() + "_" + fileName
+                : "diary/" + UUID.randomUUID() + "_" + fileName;
+
+        long startedAt = System.nanoTime();
+        PutResult result;
+        try {
+            result = objectStorage.put(objectKey, body, contentLength,
+                    contentType != null ? contentType : "application/octet-stream");
+        } finally {
+            ingestSlots.release();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long bytesPerSecond = result.getBytes() * 1000 / elapsedMs;
+
+        DiaryPhoto photo = diaryPhotoRepository.save(DiaryPhoto.of(diary, objectKey));
+
+        meterRegistry.counter("image.ingest.bytes").increment(result.getBytes());
+        meterRegistry.counter("image.ingest.parts").increment(result.getParts());
+        meterRegistry.timer("image.ingest").record(elapsedMs, TimeUnit.MILLISECONDS);
+        log.info("서버 경유 업로드 완료: diaryId={}, objectKey={}, bytes={}, parts={}, {} B/s",
+                diaryId, objectKey, result.getBytes(), result.getParts(), bytesPerSecond);
+
+        return IngestResponse.builder()
+                .photoId(photo.getId())
+                .fileName(fileName)
+                .objectName(objectKey)
+                .bytes(result.getBytes())
+                .parts(result.getParts())
+                .elapsedMs(elapsedMs)
+                .bytesPerSecond(bytesPerSecond)
+                .build();
     }
 
     @Override
@@ -124,51 +260,185 @@ public class ImageServiceImpl implements ImageService {
                 .orElseThrow(() -> new IllegalArgumentException("Diary not found: " + diaryId));
 
         String userLocale = diary.getUserLocale();
-        Date expiresAt = Date.from(
-                OffsetDateTime.now(ZoneId.systemDefault())
-                        .plusHours(1)
-                        .toInstant()
-        );
-
-        List<ImageData> images = diaryPhotoRepository.findByDiaryId(diaryId).stream()
-                .map(photo -> {
-                    try {
-                        String rawKey = photo.getObjectKey();
-                        String fullKey = rawKey.startsWith("diary/")
-                                ? rawKey
-                                : "diary/" + rawKey;
-                        
-                        CreatePreauthenticatedRequestDetails details =
-                                CreatePreauthenticatedRequestDetails.builder()
-                                        .name("read-" + UUID.randomUUID())
-                                        .objectName(fullKey)
-                                        .accessType(CreatePreauthenticatedRequestDetails.AccessType.ObjectRead)
-                                        .timeExpires(expiresAt)
-                                        .build();
-
-                        CreatePreauthenticatedRequestRequest req =
-                                CreatePreauthenticatedRequestRequest.builder()
-                                        .namespaceName(namespaceName)
-                                        .bucketName(bucketName)
-                                        .createPreauthenticatedRequestDetails(details)
-                                        .build();
-
-                        CreatePreauthenticatedRequestResponse resp =
-                                objectStorage.createPreauthenticatedRequest(req);
-
-                        String accessUri = buildFullUri(
-                                resp.getPreauthenticatedRequest().getAccessUri()
-                        );
-
-                        return new ImageData(photo.getId().toString(), accessUri);
-
-                    } catch (Exception e) {
-                        log.error("READ-PAR 생성 실패: photoId={}", photo.getId(), e);
-                        throw new RuntimeException(e);
-                    }
-                }).collect(Collectors.toList());
-
-        return new ReadSessionResponse(diaryId.toString(), images, userLocale);
+        List<DiaryPhoto> photos = diaryPhotoRepository.findByDiaryId(diaryId);
+
+        if (READ_URL_MODE_SIGNED.equals(readUrlMode)) {
+            // OCI 호출 없이 로컬 HMAC 서명으로 프록시 URL 생성
+            List<ImageData> images = photos.stream()
+                    .map(photo -> new ImageData(photo.getId().toString(), signedImageUrlService.sign(photo.getId())))
+                    .collect(Collectors.toList());
+            applyMetadata(images, photos);
+            return new ReadSessionResponse(diaryId.toString(), images, userLocale);
+        }
+
+        Map<String, ParResult> pars = resolveReadPars(photos.stream()
+                .map(photo -> readParKey(diaryId, fullKey(photo.getObjectKey())))
+                .collect(Collectors.toList()));
+        ParResult prefixPar = pars.get(diaryPrefix(diaryId));
+        String baseUri = prefixPar != null ? prefixPar.getAccessUri() : null;
+
+        List<ImageData> images = toImages(photos, pars);
+        applyMetadata(images, photos);
+        return new ReadSessionResponse(diaryId.toString(), images, userLocale, baseUri);
+    }
+
+    /** 업로드 시 EXIF 로 채운 촬영 시각·위치를 함께 전달 (AI 워커가 메타데이터 추출을 건너뛸 수 있도록) */
+    private void applyMetadata(List<ImageData> images, List<DiaryPhoto> photos) {
+        for (int i = 0; i < images.size(); i++) {
+            DiaryPhoto photo = photos.get(i);
+            ImageData image = images.get(i);
+            if (photo.getCapturedAt() != null) {
+                image.setCapturedAt(photo.getCapturedAt().format(CAPTURED_AT_FORMAT));
+            }
+            image.setLatitude(photo.getLatitude());
+            image.setLongitude(photo.getLongitude());
+        }
+    }
+
+    @Override
+    public Map<UUID, String> generateCoverUrls(List<DiaryPhoto> photos) {
+        return generateCoverUrlsFor(photos.stream().map(CoverPhotoVo::of).collect(Collectors.toList()));
+    }
+
+    /**
+     * 목록·커버용 사진 URL (photoId → URL)
+     * 썸네일이 있으면 썸네일 키, 없으면 원본 키로 URL 을 만들고, 발급에 실패한 사진은 결과에서 빠진다.
+     */
+    @Override
+    public Map<UUID, String> generateCoverUrlsFor(List<CoverPhotoVo> photos) {
+        return urlsFor(photos, true);
+    }
+
+    /** 원본 사진 URL (photoId → URL), 발급에 실패한 사진은 결과에서 빠진다 */
+    @Override
+    public Map<UUID, String> generateReadUrlsFor(List<CoverPhotoVo> photos) {
+        return urlsFor(photos, false);
+    }
+
+    private Map<UUID, String> urlsFor(List<CoverPhotoVo> photos, boolean cover) {
+        Map<UUID, String> urls = new LinkedHashMap<>();
+        if (photos.isEmpty()) {
+            return urls;
+        }
+
+        if (READ_URL_MODE_SIGNED.equals(readUrlMode)) {
+            for (CoverPhotoVo photo : photos) {
+                urls.put(photo.getPhotoId(), cover && photo.getThumbnailKey() != null
+                        ? signedImageUrlService.signThumbnail(photo.getPhotoId())
+                        : signedImageUrlService.sign(photo.getPhotoId()));
+            }
+            return urls;
+        }
+
+        List<String> objectKeys = new ArrayList<>(photos.size());
+        List<String> keys = new ArrayList<>(photos.size());
+        for (CoverPhotoVo photo : photos) {
+            String objectKey = cover ? coverKey(photo) : fullKey(photo.getObjectKey());
+            objectKeys.add(objectKey);
+            keys.add(readParKey(photo.getDiaryId(), objectKey));
+        }
+        Map<String, ParResult> pars = resolveReadPars(keys);
+
+        for (int i = 0; i < photos.size(); i++) {
+            CoverPhotoVo photo = photos.get(i);
+            String key = keys.get(i);
+            ParResult result = pars.get(key);
+            if (!result.isSuccess()) {
+                log.warn("READ-PAR 생성 실패: photoId={} ({})", photo.getPhotoId(), result.getError());
+                continue;
+            }
+            urls.put(photo.getPhotoId(), key.endsWith("/")
+                    ? ParIssuer.objectUri(result.getAccessUri(), objectKeys.get(i))
+                    : result.getAccessUri());
+        }
+        return urls;
+    }
+
+    /**
+     * READ-PAR 을 캐시 키(prefix 또는 objectKey) 단위로 확보
+     * 캐시에 없는 키만 병렬 발급하고, 실패한 키는 error 가 담긴 ParResult 로 남긴다.
+     */
+    private Map<String, ParResult> resolveReadPars(List<String> keys) {
+        Map<String, ParResult> pars = new LinkedHashMap<>();
+        List<ParSpec> missSpecs = new ArrayList<>();
+        Set<String> requested = new HashSet<>();
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(readParTtlMinutes);
+
+        for (String key : keys) {
+            if (!requested.add(key)) {
+                continue;
+            }
+            readParCache.get(key).ifPresentOrElse(
+                    uri -> pars.put(key, ParResult.success(uri, null)),
+                    () -> missSpecs.add(new ParSpec(
+                            "read-" + UUID.randomUUID(),
+                            key,
+                            key.endsWith("/")
+                                    ? CreatePreauthenticatedRequestDetails.AccessType.AnyObjectRead
+                                    : CreatePreauthenticatedRequestDetails.AccessType.ObjectRead,
+                            expiresAt
+                    )));
+        }
+
+        if (!missSpecs.isEmpty()) {
+            List<ParResult> results = parIssuer.issueAll(missSpecs);
+            for (int i = 0; i < results.size(); i++) {
+                String key = missSpecs.get(i).getObjectName();
+                ParResult result = results.get(i);
+                if (result.isSuccess()) {
+                    readParCache.put(key, result.getAccessUri(), result.getExpiresAt());
+                }
+                pars.put(key, result);
+            }
+        }
+        return pars;
+    }
+
+    /** 사진 목록 → ImageData 목록 (입력 순서 유지) */
+    private List<ImageData> toImages(List<DiaryPhoto> photos, Map<String, ParResult> pars) {
+        List<ImageData> images = new ArrayList<>(photos.size());
+        for (DiaryPhoto photo : photos) {
+            String photoId = photo.getId().toString();
+            String fullKey = fullKey(photo.getObjectKey());
+            String key = readParKey(photo.getDiary().getId(), fullKey);
+            ParResult result = pars.get(key);
+
+            if (!result.isSuccess()) {
+                log.error("READ-PAR 생성 실패: photoId={} ({})", photoId, result.getError());
+                images.add(ImageData.builder().id(photoId).error(result.getError()).build());
+            } else if (key.endsWith("/")) {
+                images.add(ImageData.builder()
+                        .id(photoId)
+                        .url(ParIssuer.objectUri(result.getAccessUri(), fullKey))
+                        .objectName(fullKey)
+                        .build());
+            } else {
+                images.add(new ImageData(photoId, result.getAccessUri()));
+            }
+        }
+        return images;
+    }
+
+    /** diary/{diaryId}/ 아래에 저장된 object 는 prefix PAR, 그 외(기존 키)는 object PAR */
+    private String readParKey(UUID diaryId, String fullKey) {
+        String prefix = diaryPrefix(diaryId);
+        return fullKey.startsWith(prefix) ? prefix : fullKey;
+    }
+
+    private String coverKey(CoverPhotoVo photo) {
+        return photo.getThumbnailKey() != null
+                ? photo.getThumbnailKey()
+                : fullKey(photo.getObjectKey());
+    }
+
+    private String diaryPrefix(UUID diaryId) {
+        return "diary/" + diaryId + "/";
+    }
+
+    private String fullKey(String rawKey) {
+        return rawKey.startsWith("diary/")
+                ? rawKey
+                : "diary/" + rawKey;
     }
 
     @Override
@@ -0,0 +1,42 @@
+package com.example.lumicore.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 다이어리·다이제스트 조회 응답의 strong ETag 생성
+ *
+ * 응답에 든 사진 URL(PAR / 서명 URL)은 만료되므로, 내용이 같아도 app.etag.url-epoch-minutes 마다
+ * ETag 가 바뀌게 해 304 로 오래된 URL 을 계속 쓰는 일을 막는다.
+ * epoch 는 READ-PAR 캐시가 보장하는 남은 유효기간(app.par-cache.min-remaining-minutes)보다 짧아야 한다.
+ */
+@Component
+public class ResponseETags {
+
+    @Value("${app.etag.url-epoch-minutes:10}")
+    private long urlEpochMinutes;
+
+    public String diary(long revision) {
+        return "d." + revision + "." + urlEpoch();
+    }
+
+    public String diaryList(String fingerprint) {
+        return "u." + fingerprint + "." + urlEpoch();
+    }
+
+    public String digest(String fingerprint) {
+        return "g." + fingerprint + "." + urlEpoch();
+    }
+
+    /** 저장은 허용하되 매번 If-None-Match 로 재검증 */
+    public CacheControl cacheControl() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    private long urlEpoch() {
+        return Instant.now().getEpochSecond() / (urlEpochMinutes * 60);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.lumicore.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * /core/images/{photoId} 프록시용 HMAC-SHA256 서명 URL 생성·검증
+ *
+ * 만료 시각은 app.image.signed-url.bucket-seconds 단위로 올림하여,
+ * 같은 구간 안에서는 동일한 URL 이 나오도록 한다 (CDN / 클라이언트 캐시 적중).
+ */
+@Service
+public class SignedImageUrlService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    /** HMAC-SHA256 키 최소 길이 (bytes) */
+    private static final int MIN_SECRET_BYTES = 32;
+
+    /** 썸네일 URL 의 variant 값 (원본은 variant 없음) */
+    public static final String VARIANT_THUMBNAIL = "thumb";
+
+    @Value("${app.image.signed-url.secret:}")
+    private String secret;
+
+    @Value("${app.image.read-url-mode:par}")
+    private String readUrlMode;
+
+    @Value("${app.image.signed-url.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${app.image.signed-url.bucket-seconds:600}")
+    private long bucketSeconds;
+
+    @Value("${app.image.proxy-base-url:https://${app.client.url}}")
+    private String proxyBaseUrl;
+
+    /** signed 모드인데 secret 이 비었거나 짧으면 기동 실패 (요청마다 500 이 나는 대신) */
+    @PostConstruct
+    void validateSecret() {
+        if ("signed".equals(readUrlMode) && !hasUsableSecret()) {
+            throw new IllegalStateException("app.image.read-url-mode=signed 에는 "
+                    + MIN_SECRET_BYTES + "bytes 이상의 app.image.signed-url.secret (IMAGE_URL_SIGNING_SECRET) 가 필요합니다");
+        }
+    }
+
+    public String sign(UUID photoId) {
+        return sign(photoId, null);
+    }
+
+    public String signThumbnail(UUID photoId) {
+        return sign(photoId, VARIANT_THUMBNAIL);
+    }
+
+    private String sign(UUID photoId, String variant) {
+        long minExpires = Instant.now().getEpochSecond() + ttlMinutes * 60;
+        long expires = ((minExpires + bucketSeconds - 1) / bucketSeconds) * bucketSeconds;
+        String base = proxyBaseUrl.endsWith("/")
+                ? proxyBaseUrl.substring(0, proxyBaseUrl.length() - 1)
+                : proxyBaseUrl;
+        String query = variant != null ? "?variant=" + variant + "&exp=" : "?exp=";
+        return base + "/core/images/" + photoId + query + expires + "&sig=" + signature(photoId, variant, expires);
+    }
+
+    /** 서명이 일치하고 만료되지 않았으면 true (variant 는 원본이면 null) */
+    public boolean verify(UUID photoId, String variant, long expires, String sig) {
+        if (sig == null || !hasUsableSecret() || expires < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = signature(photoId, variant, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, sig.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private boolean hasUsableSecret() {
+        return secret != null && !secret.isBlank()
+                && secret.getBytes(StandardCharsets.UTF_8).length >= MIN_SECRET_BYTES;
+    }
+
+    private String signature(UUID photoId, String variant, long expires) {
+        // 원본 서명 입력은 기존과 동일하게 "photoId:exp", 썸네일은 "photoId:thumb:exp"
+        String payload = variant != null
+                ? photoId + ":" + variant + ":" + expires
+                : photoId + ":" + expires;
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            byte[] raw = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        } catch (Exception e) {
+            throw new IllegalStateException("이미지 URL 서명 실패", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.lumicore.service.batch;
+
+import com.example.lumicore.dto.batch.PartitionBenchmarkResultDto;
+import com.example.lumicore.service.DiaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 다이제스트 파티션 처리량 비교 (grid-size 별 users/s)
+ *
+ * 실제 Job 과 같은 reader(userIdReader)·UserRangePartitioner 로 사용자 id 를 읽고,
+ * 청크마다 DiaryService.getDigestRequests 까지만 수행한다 (큐 전송·digest_ledger 기록 없음 → 실제 데이터로 반복 실행 가능).
+ * gridSizes 를 순서대로 한 번씩 로컬 파티션으로 실행하며, 첫 실행은 캐시 예열이 섞이므로 같은 값을 앞에 한 번 더 넣어 비교한다.
+ * grid-size 마다 그 수만큼 스레드(= DB 연결)를 쓰므로 app.digest.batch.benchmark.max-grid-size 를 넘는 값은 거절한다.
+ */
+@Slf4j
+@Component
+public class DigestPartitionBenchmark {
+
+    static final String JOB_NAME = "digestPartitionBenchmarkJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JobLauncher jobLauncher;
+    private final DiaryService diaryService;
+    private final ItemReader<UUID> userIdReader;
+
+    @Value("${app.digest.batch.benchmark.max-grid-size:16}")
+    private int maxGridSize;
+
+    public DigestPartitionBenchmark(JobRepository jobRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    JobLauncher jobLauncher,
+                                    DiaryService diaryService,
+                                    @Qualifier("userIdReader") ItemReader<UUID> userIdReader) {
+        this.jobRepository = jobRepository;
+        this.transactionManager = transactionManager;
+        this.jobLauncher = jobLauncher;
+        this.diaryService = diaryService;
+        this.userIdReader = userIdReader;
+    }
+
+    /**
+     * @throws IllegalArgumentException gridSizes 에 1 미만이거나 max-grid-size 를 넘는 값이 있으면 (아무것도 실행하지 않음)
+     */
+    public List<PartitionBenchmarkResultDto> run(LocalDate start, LocalDate end, List<Integer> gridSizes) throws Exception {
+        for (Integer gridSize : gridSizes) {
+            if (gridSize == null || gridSize < 1 || gridSize > maxGridSize) {
+                throw new IllegalArgumentException(
+                        "gridSizes 는 1 ~ " + maxGridSize + " 사이여야 합니다: " + gridSize);
+            }
+        }
+        List<PartitionBenchmarkResultDto> results = new ArrayList<>(gridSizes.size());
+        for (int gridSize : gridSizes) {
+            results.add(runOnce(start, end, gridSize));
+        }
+        return results;
+    }
+
+    private PartitionBenchmarkResultDto runOnce(LocalDate start, LocalDate end, int gridSize) throws Exception {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("digest-benchmark-");
+        executor.initialize();
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString("periodStart", start.toString())
+                    .addString("periodEnd",   end.toString())
+                    .addLong("gridSize",      (long) gridSize)
+                    .addLong("run.id",        System.currentTimeMillis())
+                    .toJobParameters();
+            JobExecution execution = jobLauncher.run(job(start, end, gridSize, executor), params);
+
+            StepExecution manager = execution.getStepExecutions().stream()
+                    .filter(step -> step.getStepName().equals("digestBenchmarkManagerStep"))
+                    .findFirst()
+                    .orElseThrow();
+            long users = manager.getReadCount();
+            long elapsedMs = manager.getStartTime() != null && manager.getEndTime() != null
+                    ? Duration.between(manager.getStartTime(), manager.getEndTime()).toMillis()
+                    : 0;
+            double perSecond = manager.getExecutionContext().getDouble("itemsPerSecond", 0.0);
+            log.info("파티션 벤치마크: grid={} users={} elapsed={}ms ({} users/s) status={}",
+                    gridSize, users, elapsedMs, String.format("%.1f", perSecond), execution.getStatus());
+            return new PartitionBenchmarkResultDto(gridSize, users, elapsedMs, perSecond, execution.getStatus().name());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Job job(LocalDate start, LocalDate end, int gridSize, ThreadPoolTaskExecutor executor) throws Exception {
+        Step worker = new StepBuilder("digestBenchmarkStep", jobRepository)
+                .<UUID, UUID>chunk(100, transactionManager)
+                .reader(userIdReader)
+                .writer(chunk -> diaryService.getDigestRequests(
+                        List.copyOf(chunk.getItems()), start.atStartOfDay(), end.atTime(LocalTime.MAX)))
+                .build();
+
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(worker);
+        handler.setTaskExecutor(executor);
+        handler.setGridSize(gridSize);
+        handler.afterPropertiesSet();
+
+        Step manager = new StepBuilder("digestBenchmarkManagerStep", jobRepository)
+                .partitioner("digestBenchmarkStep", new UserRangePartitioner())
+                .partitionHandler(handler)
+                .listener(new PartitionThroughputListener(gridSize))
+                .build();
+
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(manager)
+                .build();
+    }
+}
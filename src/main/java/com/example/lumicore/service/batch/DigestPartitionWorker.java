@@ -0,0 +1,80 @@
+package com.example.lumicore.service.batch;
+
+import com.example.lumicore.dto.batch.PartitionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원격 파티션 실행 워커 (KafkaPartitionHandler 가 보낸 요청 처리)
+ *
+ * 모든 레플리카가 같은 컨슈머 그룹으로 digest-partition 토픽을 구독해 요청이 한 pod 에만 전달된다
+ * (pod 마다 그룹이 다른 ai-callback 과 반대). 파티션 실행은 max.poll.interval 보다 길 수 있어
+ * 수신 즉시 커밋하고 별도 스레드에서 실행하며, 이미 시작·완료된 파티션(중복 전달)은 건너뛴다.
+ * app.digest.batch.remote.enabled=false 이면 리스너가 시작되지 않는다.
+ */
+@Slf4j
+@Component
+public class DigestPartitionWorker {
+
+    private final JobExplorer jobExplorer;
+    private final ApplicationContext applicationContext;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+
+    public DigestPartitionWorker(JobExplorer jobExplorer,
+                                 ApplicationContext applicationContext,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("digestPartitionExecutor") TaskExecutor executor) {
+        this.jobExplorer = jobExplorer;
+        this.applicationContext = applicationContext;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    @KafkaListener(
+            topics = "${app.digest.batch.remote.topic:digest-partition}",
+            groupId = "${app.digest.batch.remote.group-id:lumicore-digest-workers}",
+            autoStartup = "${app.digest.batch.remote.enabled:false}"
+    )
+    public void onPartitionRequest(@Payload String message, Acknowledgment ack) {
+        ack.acknowledge();
+
+        PartitionRequestDto request;
+        try {
+            request = objectMapper.readValue(message, PartitionRequestDto.class);
+        } catch (Exception e) {
+            log.warn("파티션 요청 파싱 실패: {}", message, e);
+            return;
+        }
+
+        StepExecution stepExecution = jobExplorer.getStepExecution(
+                request.getJobExecutionId(), request.getStepExecutionId());
+        if (stepExecution == null || stepExecution.getStatus() != BatchStatus.STARTING) {
+            log.info("파티션 요청 건너뜀 (없음 또는 이미 실행됨): stepExecutionId={}, status={}",
+                    request.getStepExecutionId(), stepExecution != null ? stepExecution.getStatus() : null);
+            return;
+        }
+
+        Step step = applicationContext.getBean(request.getStepName(), Step.class);
+        executor.execute(() -> {
+            try {
+                log.info("원격 파티션 실행: {} (stepExecutionId={})",
+                        stepExecution.getStepName(), stepExecution.getId());
+                step.execute(stepExecution);
+            } catch (Exception e) {
+                log.error("원격 파티션 실행 실패: stepExecutionId={}", stepExecution.getId(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.lumicore.service.batch;
+
+import com.example.lumicore.dto.batch.PartitionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 파티션을 Kafka 로 다른 레플리카에 나눠 보내는 PartitionHandler (원격 파티셔닝)
+ *
+ * 파티션마다 PartitionRequestDto 를 digest-partition 토픽으로 보내고, 공유 컨슈머 그룹의
+ * DigestPartitionWorker 중 하나가 실행한다. 결과는 메시지로 받지 않고 JobRepository 를
+ * 주기적으로 조회해 모든 파티션이 끝났는지 확인한다 (Spring Batch MessageChannelPartitionHandler 의 polling 방식).
+ *
+ * 제한 시간 안에 끝나지 않은 파티션은 FAILED 로 표시해, 같은 파라미터로 Job 을 재시작하면
+ * 완료된 파티션은 건너뛰고 나머지만 다시 보낸다.
+ */
+@Slf4j
+public class KafkaPartitionHandler extends AbstractPartitionHandler {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final String topic;
+    private final String stepName;
+    private final Duration pollInterval;
+    private final Duration timeout;
+
+    public KafkaPartitionHandler(KafkaTemplate<String, String> kafkaTemplate,
+                                 ObjectMapper objectMapper,
+                                 JobExplorer jobExplorer,
+                                 JobRepository jobRepository,
+                                 String topic,
+                                 String stepName,
+                                 int gridSize,
+                                 Duration pollInterval,
+                                 Duration timeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.topic = topic;
+        this.stepName = stepName;
+        this.pollInterval = pollInterval;
+        this.timeout = timeout;
+        setGridSize(gridSize);
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution,
+                                          Set<StepExecution> partitionStepExecutions) throws Exception {
+        for (StepExecution partition : partitionStepExecutions) {
+            PartitionRequestDto request = new PartitionRequestDto(
+                    partition.getJobExecutionId(), partition.getId(), stepName);
+            // 키를 파티션 id 로 → 토픽 파티션에 고르게 분산
+            kafkaTemplate.send(topic, partition.getId().toString(), objectMapper.writeValueAsString(request))
+                    .get(30, TimeUnit.SECONDS);
+        }
+        log.info("원격 파티션 {}건 전송: step={}, jobExecutionId={}",
+                partitionStepExecutions.size(), stepName, managerStepExecution.getJobExecutionId());
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Thread.sleep(pollInterval.toMillis());
+
+            Set<StepExecution> finished = new HashSet<>();
+            Set<StepExecution> running = new HashSet<>();
+            for (StepExecution partition : partitionStepExecutions) {
+                StepExecution latest = jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId());
+                if (latest != null && latest.getStatus().isRunning()) {
+                    running.add(latest);
+                } else {
+                    finished.add(latest != null ? latest : partition);
+                }
+            }
+            if (running.isEmpty()) {
+                return finished;
+            }
+            if (System.nanoTime() > deadline) {
+                failUnfinished(running);
+                throw new TimeoutException("원격 파티션 " + running.size() + "건이 " + timeout + " 안에 끝나지 않음");
+            }
+        }
+    }
+
+    /** 재시작 시 다시 실행되도록 FAILED 로 표시 (워커가 아직 실행 중이면 그쪽 갱신은 낙관적 락으로 실패) */
+    private void failUnfinished(Set<StepExecution> running) {
+        for (StepExecution execution : running) {
+            try {
+                execution.setStatus(BatchStatus.FAILED);
+                execution.setExitStatus(ExitStatus.FAILED.addExitDescription("remote partition timed out"));
+                execution.setEndTime(LocalDateTime.now());
+                jobRepository.update(execution);
+            } catch (Exception e) {
+                log.warn("파티션 상태 갱신 실패: stepExecutionId={}", execution.getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.lumicore.service.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 파티션 manager Step 의 처리량 기록 (gridSize 별 users/s 비교용)
+ *
+ * manager 의 readCount 는 모든 파티션의 합계이므로 Step 전체 경과 시간으로 나눠
+ * 로그와 ExecutionContext(gridSize, itemsPerSecond)에 남긴다 → BATCH_STEP_EXECUTION_CONTEXT 에서 조회 가능.
+ */
+@Slf4j
+public class PartitionThroughputListener implements StepExecutionListener {
+
+    private final int gridSize;
+
+    public PartitionThroughputListener(int gridSize) {
+        this.gridSize = gridSize;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime start = stepExecution.getStartTime();
+        if (start == null) {
+            return null;
+        }
+        long elapsedMs = Math.max(1, Duration.between(start, LocalDateTime.now()).toMillis());
+        long items = stepExecution.getReadCount();
+        double perSecond = items * 1000.0 / elapsedMs;
+
+        stepExecution.getExecutionContext().putInt("gridSize", gridSize);
+        stepExecution.getExecutionContext().putDouble("itemsPerSecond", perSecond);
+        log.info("파티션 Step 완료: {} grid={} items={} elapsed={}ms ({} items/s)",
+                stepExecution.getStepName(), gridSize, items, elapsedMs, String.format("%.1f", perSecond));
+        return null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.lumicore.service.batch;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * user_id(BINARY(16)) 공간을 상위 32비트 기준 gridSize 개의 연속 구간으로 분할
+ *
+ * 랜덤 UUID 는 상위 비트가 고르게 분포하므로 구간마다 사용자 수가 비슷하고,
+ * 각 구간은 idx_diaries_user_created 인덱스의 range scan 으로 읽힌다.
+ * 구간 경계는 hex 문자열(minUserId/maxUserId, 양끝 포함)로 파티션 ExecutionContext 에 저장된다.
+ */
+public class UserRangePartitioner implements Partitioner {
+
+    public static final String MIN_USER_ID = "minUserId";
+    public static final String MAX_USER_ID = "maxUserId";
+
+    private static final long PREFIX_SPACE = 1L << 32;
+    private static final String LOW_SUFFIX = "0".repeat(24);
+    private static final String HIGH_SUFFIX = "f".repeat(24);
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int size = Math.max(1, gridSize);
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            long low = PREFIX_SPACE * i / size;
+            long high = PREFIX_SPACE * (i + 1) / size - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(MIN_USER_ID, String.format("%08x", low) + LOW_SUFFIX);
+            context.putString(MAX_USER_ID, String.format("%08x", high) + HIGH_SUFFIX);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+}
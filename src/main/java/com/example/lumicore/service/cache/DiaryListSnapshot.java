@@ -0,0 +1,15 @@
+package com.example.lumicore.service.cache;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 사용자 다이어리 목록 캐시 항목
+ * - version: 스냅샷을 만든 시점의 DiaryListVersionVo.fingerprint()
+ */
+@Value
+public class DiaryListSnapshot {
+    String version;
+    List<DiarySummarySnapshot> diaries;
+}
@@ -0,0 +1,184 @@
+package com.example.lumicore.service.cache;
+
+import com.example.lumicore.service.AiCallbackProducerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 다이어리 상세(diaryId)·사용자 목록(userId) 응답 캐시
+ *
+ * - 사진 URL 은 저장하지 않고 object 키만 보관 → 응답 시점에 ReadParCache / 서명으로 URL 생성
+ *   (PAR 만료 갱신은 ReadParCache 가 따로 담당)
+ * - 쓰기 트랜잭션이 커밋된 뒤 로컬에서 제거하고, ai-callback 토픽으로 CACHE_INVALIDATE 를 보내
+ *   다른 레플리카도 같은 항목을 제거한다 (컨슈머 그룹이 pod 마다 달라 모든 pod 가 수신)
+ * - 유실된 무효화는 app.diary-cache.ttl-minutes 로 상한을 두고, ETag 조회 경로에서는
+ *   DB 의 revision/version 보다 오래된 스냅샷을 다시 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryResponseCache {
+
+    private final AiCallbackProducerService callbackProducerService;
+    private final MeterRegistry meterRegistry;
+
+    /** 자신이 보낸 무효화 메시지 식별용 */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${app.diary-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.diary-cache.max-size:5000}")
+    private long maxSize;
+
+    @Value("${app.diary-cache.list-max-size:2000}")
+    private long listMaxSize;
+
+    @Value("${app.diary-cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    private Cache<UUID, DiarySnapshot> diaries;
+    private Cache<UUID, DiaryListSnapshot> userLists;
+
+    @PostConstruct
+    void init() {
+        diaries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        userLists = Caffeine.newBuilder()
+                .maximumSize(listMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+        CaffeineCacheMetrics.monitor(meterRegistry, diaries, "diary.response");
+        CaffeineCacheMetrics.monitor(meterRegistry, userLists, "diary.user-list");
+    }
+
+    /**
+     * 캐시된 스냅샷이 minRevision 보다 오래됐으면 다시 읽는다.
+     * (무효화 메시지가 늦거나 유실돼도 ETag 보다 오래된 본문을 내주지 않도록)
+     */
+    public DiarySnapshot getDiary(UUID diaryId, long minRevision, Supplier<DiarySnapshot> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        DiarySnapshot snapshot = diaries.get(diaryId, id -> loader.get());
+        if (snapshot != null && snapshot.getRevision() < minRevision) {
+            snapshot = loader.get();
+            diaries.put(diaryId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /** 캐시된 목록의 version 이 다르면 다시 읽는다 (version 이 null 이면 확인하지 않음) */
+    public DiaryListSnapshot getUserList(UUID userId, String version, Supplier<DiaryListSnapshot> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        DiaryListSnapshot snapshot = userLists.get(userId, id -> loader.get());
+        if (snapshot != null && version != null && !version.equals(snapshot.getVersion())) {
+            snapshot = loader.get();
+            userLists.put(userId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * diaryId 와 그 다이어리가 포함된(또는 포함됐던) 사용자 목록 무효화
+     * 트랜잭션 안이면 커밋 후에 수행한다 (커밋 전 재조회로 옛 값이 다시 들어가는 것 방지).
+     */
+    public void invalidate(UUID diaryId, UUID... userIds) {
+        invalidate(List.of(diaryId), Arrays.asList(userIds));
+    }
+
+    /** 여러 다이어리를 한 번에 무효화 (전파 메시지도 1건) */
+    public void invalidate(Collection<UUID> diaryIds, Collection<UUID> userIds) {
+        if (!enabled || diaryIds.isEmpty()) {
+            return;
+        }
+        List<UUID> targets = List.copyOf(diaryIds);
+        Set<UUID> owners = new LinkedHashSet<>();
+        for (UUID userId : userIds) {
+            if (userId != null) {
+                owners.add(userId);
+            }
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndBroadcast(targets, owners);
+                }
+            });
+        } else {
+            evictAndBroadcast(targets, owners);
+        }
+    }
+
+    /** 다른 레플리카가 보낸 CACHE_INVALIDATE 처리 */
+    public void onRemoteInvalidate(String diaryId, JsonNode data) {
+        if (!enabled || data == null || instanceId.equals(data.path("origin").asText(null))) {
+            return;
+        }
+        List<UUID> targets = new ArrayList<>();
+        targets.add(UUID.fromString(diaryId));
+        data.path("diaryIds").forEach(node -> targets.add(UUID.fromString(node.asText())));
+        List<UUID> owners = new ArrayList<>();
+        data.path("userIds").forEach(node -> owners.add(UUID.fromString(node.asText())));
+        evictLocal(targets, owners);
+        log.debug("원격 캐시 무효화: diaryIds={}, userIds={}", targets, owners);
+    }
+
+    private void evictAndBroadcast(List<UUID> diaryIds, Set<UUID> owners) {
+        evictLocal(diaryIds, owners);
+
+        // 메시지 키는 첫 번째 다이어리, 나머지는 data.diaryIds
+        Map<String, Object> data = new HashMap<>();
+        data.put("origin", instanceId);
+        data.put("userIds", owners.stream().map(Objects::toString).toList());
+        if (diaryIds.size() > 1) {
+            data.put("diaryIds", diaryIds.subList(1, diaryIds.size()).stream().map(Objects::toString).toList());
+        }
+        try {
+            callbackProducerService.sendCallback(diaryIds.get(0).toString(),
+                    AiCallbackProducerService.CALLBACK_TYPE_CACHE_INVALIDATE, data);
+        } catch (Exception e) {
+            // 다른 레플리카는 TTL 만료(또는 revision 확인)까지 옛 값을 볼 수 있음
+            log.warn("캐시 무효화 전파 실패: diaryIds={}", diaryIds, e);
+        }
+    }
+
+    private void evictLocal(Collection<UUID> diaryIds, Iterable<UUID> owners) {
+        diaries.invalidateAll(diaryIds);
+        for (UUID userId : owners) {
+            userLists.invalidate(userId);
+        }
+    }
+}
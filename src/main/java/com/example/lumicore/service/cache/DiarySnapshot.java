@@ -0,0 +1,25 @@
+package com.example.lumicore.service.cache;
+
+import com.example.lumicore.dto.diary.QuestionAnswerDiaryDto;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DiaryResponseDto 캐시 항목 (사진 URL 제외)
+ * - revision: 스냅샷을 만든 시점의 Diary.revision
+ */
+@Value
+public class DiarySnapshot {
+    long revision;
+    UUID diaryId;
+    UUID userId;
+    String userLocale;
+    String emotionTag;
+    String overallDaySummary;
+    LocalDateTime createdAt;
+    List<QuestionAnswerDiaryDto> answers;
+    List<PhotoSnapshot> photos;
+}
@@ -0,0 +1,18 @@
+package com.example.lumicore.service.cache;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DiarySummaryDto 캐시 항목 (커버 URL 제외, 사진이 없으면 firstPhoto 는 null)
+ */
+@Value
+public class DiarySummarySnapshot {
+    UUID diaryId;
+    LocalDateTime createdAt;
+    String overallDaySummary;
+    String emotionTag;
+    PhotoSnapshot firstPhoto;
+}
@@ -0,0 +1,14 @@
+package com.example.lumicore.service.cache;
+
+import com.example.lumicore.vo.CoverPhotoVo;
+import lombok.Value;
+
+/**
+ * 캐시에 저장하는 사진 정보 — URL 대신 object 키만 보관하고 응답 시점에 URL 을 만든다.
+ */
+@Value
+public class PhotoSnapshot {
+    CoverPhotoVo keys;
+    Double latitude;
+    Double longitude;
+}
@@ -0,0 +1,182 @@
+package com.example.lumicore.service.dedup;
+
+import com.example.lumicore.jpa.entity.DiaryPhoto;
+import com.example.lumicore.jpa.repository.DiaryPhotoRepository;
+import com.example.lumicore.jpa.repository.DiaryRepository;
+import com.example.lumicore.storage.ObjectMetadata;
+import com.example.lumicore.storage.ObjectStoragePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재업로드된 사진 판별 및 분석 결과 재사용
+ *
+ * 1) object 의 MD5(head)를 content_hash 로 저장하고, 같은 사용자의 사진 중 같은 해시로 이미 분석된 사진을 찾는다.
+ * 2) 없으면 썸네일 단계에서 저장된 dHash(perceptual_hash)와 해밍 거리 1 이내인 분석된 사진을 찾는다.
+ *    (해시 자신과 1비트씩 뒤집은 64개 값을 인덱스 IN 조회 한 번으로 비교)
+ * 다른 사용자의 사진은 후보에서 제외한다 (위치·설명이 계정 간에 복사되지 않도록).
+ * 찾으면 설명·랜드마크·위치를 복사하고 해당 사진 id 를 돌려주어 VisionRequest 에서 뺄 수 있게 한다.
+ *
+ * OCI ETag 는 내용과 무관한 값이라 쓰지 않으며, 멀티파트 업로드처럼 MD5 가 없으면 dHash 만 사용한다.
+ */
+@Slf4j
+@Service
+public class PhotoDedupService {
+
+    /** 단색 이미지 등은 dHash 가 0 이 되어 서로 다른 사진도 일치하므로 제외 */
+    private static final long UNIFORM_HASH = 0L;
+
+    private final DiaryPhotoRepository diaryPhotoRepository;
+    private final DiaryRepository diaryRepository;
+    private final ObjectStoragePort objectStorage;
+    private final ExecutorService executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter reused;
+
+    @Value("${app.dedupe.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.dedupe.timeout-ms:2000}")
+    private long timeoutMs;
+
+    public PhotoDedupService(DiaryPhotoRepository diaryPhotoRepository,
+                             DiaryRepository diaryRepository,
+                             ObjectStoragePort objectStorage,
+                             @Qualifier("photoIoExecutor") ExecutorService executor,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry) {
+        this.diaryPhotoRepository = diaryPhotoRepository;
+        this.diaryRepository = diaryRepository;
+        this.objectStorage = objectStorage;
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.reused = meterRegistry.counter("photo.dedupe.reused");
+    }
+
+    /** 분석 결과를 재사용한 사진 id 목록 (VisionRequest 에서 제외 대상) */
+    public Set<UUID> deduplicate(UUID diaryId) {
+        if (!enabled) {
+            return Set.of();
+        }
+        List<DiaryPhoto> photos = diaryPhotoRepository.findByDiaryId(diaryId);
+
+        // 1) 해시가 없는 사진만 head 로 MD5 조회 (병렬)
+        Map<UUID, CompletableFuture<String>> pending = new HashMap<>();
+        for (DiaryPhoto photo : photos) {
+            if (photo.getContentHash() == null && photo.getDescription() == null) {
+                String objectKey = fullKey(photo.getObjectKey());
+                try {
+                    pending.put(photo.getId(), CompletableFuture.supplyAsync(() -> contentMd5(objectKey), executor));
+                } catch (RejectedExecutionException e) {
+                    log.debug("MD5 조회 건너뜀 (작업 대기열 초과): photoId={}", photo.getId());
+                }
+            }
+        }
+        Map<UUID, String> hashes = new HashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (Map.Entry<UUID, CompletableFuture<String>> entry : pending.entrySet()) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                String hash = entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                if (hash != null) {
+                    hashes.put(entry.getKey(), hash);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.debug("MD5 조회 실패/시간 초과: photoId={}", entry.getKey());
+            }
+        }
+
+        // 2) 해시 저장 + 같은 사용자의 분석된 사진 찾아 복사 (한 트랜잭션)
+        UUID userId = diaryRepository.findUserIds(List.of(diaryId)).stream().findFirst().orElse(null);
+        Set<UUID> duplicates = transactionTemplate.execute(status -> applyMatches(diaryId, userId, hashes));
+        if (duplicates != null && !duplicates.isEmpty()) {
+            reused.increment(duplicates.size());
+            log.info("중복 사진 분석 결과 재사용: diaryId={}, {}건", diaryId, duplicates.size());
+        }
+        return duplicates != null ? duplicates : Set.of();
+    }
+
+    /** userId 가 없으면(소유자 미지정 다이어리) 해시만 저장하고 재사용하지 않는다 */
+    private Set<UUID> applyMatches(UUID diaryId, UUID userId, Map<UUID, String> hashes) {
+        Set<UUID> duplicates = new HashSet<>();
+        for (DiaryPhoto photo : diaryPhotoRepository.findByDiaryId(diaryId)) {
+            String hash = hashes.get(photo.getId());
+            if (hash != null) {
+                photo.updateContentHash(hash);
+            }
+            if (photo.getDescription() != null || userId == null) {
+                continue;
+            }
+
+            Optional<DiaryPhoto> match = Optional.empty();
+            if (photo.getContentHash() != null) {
+                match = diaryPhotoRepository
+                        .findFirstByDiaryUserIdAndContentHashAndDescriptionIsNotNullAndDeletedAtIsNullAndIdNot(
+                                userId, photo.getContentHash(), photo.getId());
+            }
+            if (match.isEmpty() && photo.getPerceptualHash() != null && photo.getPerceptualHash() != UNIFORM_HASH) {
+                match = diaryPhotoRepository
+                        .findFirstByDiaryUserIdAndPerceptualHashInAndDescriptionIsNotNullAndDeletedAtIsNullAndIdNot(
+                                userId, neighbours(photo.getPerceptualHash()), photo.getId());
+            }
+            match.ifPresent(source -> {
+                photo.copyAnalysisFrom(source);
+                duplicates.add(photo.getId());
+                log.debug("분석 결과 복사: photoId={} ← {}", photo.getId(), source.getId());
+            });
+        }
+        if (!duplicates.isEmpty()) {
+            // 복사된 위치가 다이어리 응답에 보이므로 ETag 갱신
+            diaryRepository.bumpRevision(diaryId);
+        }
+        return duplicates;
+    }
+
+    /** hash 와 해밍 거리 1 이내의 값 65개 */
+    private static List<Long> neighbours(long hash) {
+        List<Long> values = new ArrayList<>(65);
+        values.add(hash);
+        for (int bit = 0; bit < 64; bit++) {
+            values.add(hash ^ (1L << bit));
+        }
+        return values;
+    }
+
+    private String contentMd5(String objectKey) {
+        try {
+            return objectStorage.head(objectKey)
+                    .map(ObjectMetadata::getContentMd5)
+                    .orElse(null);
+        } catch (Exception e) {
+            log.debug("head 실패: objectKey={} ({})", objectKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private String fullKey(String rawKey) {
+        return rawKey.startsWith("diary/")
+                ? rawKey
+                : "diary/" + rawKey;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.lumicore.service.exif;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * EXIF 에서 읽은 촬영 시각·위치 (없는 값은 null)
+ */
+@Value
+public class ExifData {
+
+    public static final ExifData EMPTY = new ExifData(null, null, null);
+
+    LocalDateTime capturedAt;
+    Double latitude;
+    Double longitude;
+
+    public boolean isEmpty() {
+        return capturedAt == null && latitude == null && longitude == null;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.lumicore.service.exif;
+
+import com.example.lumicore.jpa.entity.DiaryPhoto;
+import com.example.lumicore.jpa.repository.DiaryPhotoRepository;
+import com.example.lumicore.jpa.repository.DiaryRepository;
+import com.example.lumicore.storage.ByteRange;
+import com.example.lumicore.storage.ObjectContent;
+import com.example.lumicore.storage.ObjectStoragePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드가 끝난 사진의 앞부분(header-bytes)만 Range GET 으로 받아 EXIF 를 읽고
+ * DiaryPhoto.capturedAt / latitude / longitude 를 미리 채운다.
+ *
+ * 이미 값이 있는 필드는 덮어쓰지 않으며, 실패한 사진은 AI 분석 결과로 채워진다.
+ */
+@Slf4j
+@Service
+public class ExifExtractionService {
+
+    /** 워커 스레드별 재사용 버퍼 */
+    private final ThreadLocal<byte[]> buffers;
+
+    private final ObjectStoragePort objectStorage;
+    private final DiaryPhotoRepository diaryPhotoRepository;
+    private final DiaryRepository diaryRepository;
+    private final ExecutorService executor;
+
+    @Value("${app.exif.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.exif.timeout-ms:3000}")
+    private long timeoutMs;
+
+    private final int headerBytes;
+
+    public ExifExtractionService(ObjectStoragePort objectStorage,
+                                 DiaryPhotoRepository diaryPhotoRepository,
+                                 DiaryRepository diaryRepository,
+                                 @Qualifier("photoIoExecutor") ExecutorService executor,
+                                 @Value("${app.exif.header-bytes:65536}") int headerBytes) {
+        this.objectStorage = objectStorage;
+        this.diaryPhotoRepository = diaryPhotoRepository;
+        this.diaryRepository = diaryRepository;
+        this.executor = executor;
+        this.headerBytes = headerBytes;
+        this.buffers = ThreadLocal.withInitial(() -> new byte[headerBytes]);
+    }
+
+    /**
+     * 다이어리의 메타데이터가 비어 있는 사진을 병렬 처리하고 끝날 때까지(최대 timeout-ms) 기다린다.
+     * 갱신된 사진 수를 반환한다.
+     */
+    public int extractForDiary(UUID diaryId) {
+        if (!enabled) {
+            return 0;
+        }
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (DiaryPhoto photo : diaryPhotoRepository.findByDiaryId(diaryId)) {
+            if (photo.getCapturedAt() != null && photo.getLatitude() != null) {
+                continue;
+            }
+            UUID photoId = photo.getId();
+            String objectKey = fullKey(photo.getObjectKey());
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> extract(photoId, objectKey), executor));
+            } catch (RejectedExecutionException e) {
+                log.debug("EXIF 추출 건너뜀 (작업 대기열 초과): photoId={}", photoId);
+            }
+        }
+        if (futures.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("EXIF 추출 대기 시간 초과: diaryId={}", diaryId);
+        }
+
+        int updated = 0;
+        for (CompletableFuture<Boolean> future : futures) {
+            if (future.getNow(false)) {
+                updated++;
+            }
+        }
+        log.debug("EXIF 추출: diaryId={}, 대상 {}건 중 {}건 갱신", diaryId, futures.size(), updated);
+        return updated;
+    }
+
+    /** 사진 1장 — 메타데이터를 찾아 저장했으면 true */
+    public boolean extract(UUID photoId, String objectKey) {
+        byte[] buffer = buffers.get();
+        int length;
+        try (ObjectContent content = objectStorage.get(objectKey, ByteRange.of(0, buffer.length - 1), null);
+             InputStream body = content.getBody()) {
+            length = body.readNBytes(buffer, 0, buffer.length);
+        } catch (Exception e) {
+            log.warn("EXIF 헤더 조회 실패: photoId={}, objectKey={} ({})", photoId, objectKey, e.getMessage());
+            return false;
+        }
+
+        ExifData exif = ExifParser.parse(buffer, length);
+        if (exif.isEmpty()) {
+            return false;
+        }
+        diaryPhotoRepository.fillMissingMetadata(photoId, exif.getCapturedAt(), exif.getLatitude(), exif.getLongitude());
+        diaryRepository.bumpRevisionByPhotoId(photoId);
+        return true;
+    }
+
+    private String fullKey(String rawKey) {
+        return rawKey.startsWith("diary/")
+                ? rawKey
+                : "diary/" + rawKey;
+    }
+}
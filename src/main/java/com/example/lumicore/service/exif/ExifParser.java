@@ -0,0 +1,236 @@
+package com.example.lumicore.service.exif;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * JPEG(APP1 Exif) 또는 TIFF 헤더에서 DateTimeOriginal 과 GPS 좌표만 읽는 파서
+ *
+ * 입력 버퍼를 인덱스로만 훑으며 문자열·중간 객체를 만들지 않는다.
+ * 버퍼가 잘려 있어 필요한 값이 범위를 벗어나면 그 값만 건너뛴다.
+ */
+public final class ExifParser {
+
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_GPS_IFD = 0x8825;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_GPS_LATITUDE_REF = 0x0001;
+    private static final int TAG_GPS_LATITUDE = 0x0002;
+    private static final int TAG_GPS_LONGITUDE_REF = 0x0003;
+    private static final int TAG_GPS_LONGITUDE = 0x0004;
+
+    private static final int TYPE_ASCII = 2;
+    private static final int TYPE_RATIONAL = 5;
+
+    private static final int MAX_IFD_ENTRIES = 512;
+
+    private ExifParser() {
+    }
+
+    /** buf[0, length) 파싱 — EXIF 가 없거나 형식이 다르면 ExifData.EMPTY */
+    public static ExifData parse(byte[] buf, int length) {
+        int tiff = findTiffHeader(buf, length);
+        if (tiff < 0) {
+            return ExifData.EMPTY;
+        }
+        return parseTiff(buf, length, tiff);
+    }
+
+    /** TIFF 헤더 시작 위치, 없으면 -1 */
+    private static int findTiffHeader(byte[] b, int len) {
+        if (len >= 4 && isTiffHeader(b, 0, len)) {
+            return 0;
+        }
+        if (len < 4 || (b[0] & 0xFF) != 0xFF || (b[1] & 0xFF) != 0xD8) {
+            return -1;
+        }
+        int pos = 2;
+        while (pos + 4 <= len) {
+            if ((b[pos] & 0xFF) != 0xFF) {
+                return -1;
+            }
+            int marker = b[pos + 1] & 0xFF;
+            if (marker == 0xD8 || marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                pos += 2;
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                // 이미지 데이터 시작 — 이후에는 APP1 없음
+                return -1;
+            }
+            int segmentLength = u16(b, pos + 2, false);
+            int data = pos + 4;
+            if (marker == 0xE1 && data + 6 <= len
+                    && b[data] == 'E' && b[data + 1] == 'x' && b[data + 2] == 'i' && b[data + 3] == 'f'
+                    && b[data + 4] == 0 && b[data + 5] == 0
+                    && isTiffHeader(b, data + 6, len)) {
+                return data + 6;
+            }
+            pos += 2 + segmentLength;
+        }
+        return -1;
+    }
+
+    private static boolean isTiffHeader(byte[] b, int off, int len) {
+        if (off + 8 > len) {
+            return false;
+        }
+        boolean ii = b[off] == 'I' && b[off + 1] == 'I';
+        boolean mm = b[off] == 'M' && b[off + 1] == 'M';
+        return (ii || mm) && u16(b, off + 2, ii) == 42;
+    }
+
+    private static ExifData parseTiff(byte[] b, int len, int tiff) {
+        boolean le = b[tiff] == 'I';
+        int ifd0 = tiff + (int) u32(b, tiff + 4, le);
+
+        LocalDateTime dateTime = null;
+        LocalDateTime dateTimeOriginal = null;
+        int exifIfd = -1;
+        int gpsIfd = -1;
+
+        int count = entryCount(b, len, ifd0, le);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd0 + 2 + i * 12;
+            int tag = u16(b, entry, le);
+            if (tag == TAG_EXIF_IFD) {
+                exifIfd = tiff + (int) u32(b, entry + 8, le);
+            } else if (tag == TAG_GPS_IFD) {
+                gpsIfd = tiff + (int) u32(b, entry + 8, le);
+            } else if (tag == TAG_DATE_TIME) {
+                dateTime = readDateTime(b, len, tiff, entry, le);
+            }
+        }
+
+        if (exifIfd > tiff) {
+            count = entryCount(b, len, exifIfd, le);
+            for (int i = 0; i < count; i++) {
+                int entry = exifIfd + 2 + i * 12;
+                if (u16(b, entry, le) == TAG_DATE_TIME_ORIGINAL) {
+                    dateTimeOriginal = readDateTime(b, len, tiff, entry, le);
+                    break;
+                }
+            }
+        }
+
+        Double latitude = null;
+        Double longitude = null;
+        if (gpsIfd > tiff) {
+            byte latRef = 0;
+            byte lonRef = 0;
+            double lat = Double.NaN;
+            double lon = Double.NaN;
+            count = entryCount(b, len, gpsIfd, le);
+            for (int i = 0; i < count; i++) {
+                int entry = gpsIfd + 2 + i * 12;
+                int tag = u16(b, entry, le);
+                int type = u16(b, entry + 2, le);
+                if (tag == TAG_GPS_LATITUDE_REF && type == TYPE_ASCII) {
+                    latRef = b[entry + 8];
+                } else if (tag == TAG_GPS_LONGITUDE_REF && type == TYPE_ASCII) {
+                    lonRef = b[entry + 8];
+                } else if (tag == TAG_GPS_LATITUDE && type == TYPE_RATIONAL) {
+                    lat = readDegrees(b, len, tiff + (int) u32(b, entry + 8, le), le);
+                } else if (tag == TAG_GPS_LONGITUDE && type == TYPE_RATIONAL) {
+                    lon = readDegrees(b, len, tiff + (int) u32(b, entry + 8, le), le);
+                }
+            }
+            if (!Double.isNaN(lat) && !Double.isNaN(lon) && lat <= 90 && lon <= 180) {
+                latitude = latRef == 'S' ? -lat : lat;
+                longitude = lonRef == 'W' ? -lon : lon;
+            }
+        }
+
+        LocalDateTime capturedAt = dateTimeOriginal != null ? dateTimeOriginal : dateTime;
+        if (capturedAt == null && latitude == null) {
+            return ExifData.EMPTY;
+        }
+        return new ExifData(capturedAt, latitude, longitude);
+    }
+
+    /** IFD 항목 수 (버퍼 범위를 넘는 항목은 제외) */
+    private static int entryCount(byte[] b, int len, int ifd, boolean le) {
+        if (ifd < 0 || ifd + 2 > len) {
+            return 0;
+        }
+        int count = Math.min(u16(b, ifd, le), MAX_IFD_ENTRIES);
+        return Math.max(0, Math.min(count, (len - ifd - 2) / 12));
+    }
+
+    /** "YYYY:MM:DD HH:MM:SS" (ASCII, 20바이트) */
+    private static LocalDateTime readDateTime(byte[] b, int len, int tiff, int entry, boolean le) {
+        if (u16(b, entry + 2, le) != TYPE_ASCII || u32(b, entry + 4, le) < 19) {
+            return null;
+        }
+        int p = tiff + (int) u32(b, entry + 8, le);
+        if (p < 0 || p + 19 > len) {
+            return null;
+        }
+        int year = digits(b, p, 4);
+        int month = digits(b, p + 5, 2);
+        int day = digits(b, p + 8, 2);
+        int hour = digits(b, p + 11, 2);
+        int minute = digits(b, p + 14, 2);
+        int second = digits(b, p + 17, 2);
+        if (year <= 0 || month <= 0 || day <= 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /** 도·분·초 RATIONAL 3개 → 십진 도 */
+    private static double readDegrees(byte[] b, int len, int p, boolean le) {
+        if (p < 0 || p + 24 > len) {
+            return Double.NaN;
+        }
+        double degrees = rational(b, p, le);
+        double minutes = rational(b, p + 8, le);
+        double seconds = rational(b, p + 16, le);
+        if (Double.isNaN(degrees) || Double.isNaN(minutes) || Double.isNaN(seconds)) {
+            return Double.NaN;
+        }
+        return degrees + minutes / 60 + seconds / 3600;
+    }
+
+    private static double rational(byte[] b, int p, boolean le) {
+        long numerator = u32(b, p, le);
+        long denominator = u32(b, p + 4, le);
+        return denominator == 0 ? Double.NaN : (double) numerator / denominator;
+    }
+
+    /** ASCII 숫자 n 자리, 숫자가 아니면 -1 */
+    private static int digits(byte[] b, int p, int n) {
+        int value = 0;
+        for (int i = 0; i < n; i++) {
+            int d = b[p + i] - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static int u16(byte[] b, int p, boolean le) {
+        if (p < 0 || p + 2 > b.length) {
+            return 0;
+        }
+        return le
+                ? (b[p] & 0xFF) | (b[p + 1] & 0xFF) << 8
+                : (b[p] & 0xFF) << 8 | (b[p + 1] & 0xFF);
+    }
+
+    private static long u32(byte[] b, int p, boolean le) {
+        if (p < 0 || p + 4 > b.length) {
+            return 0;
+        }
+        return le
+                ? (b[p] & 0xFF) | (b[p + 1] & 0xFF) << 8 | (b[p + 2] & 0xFF) << 16 | (long) (b[p + 3] & 0xFF) << 24
+                : (long) (b[p] & 0xFF) << 24 | (b[p + 1] & 0xFF) << 16 | (b[p + 2] & 0xFF) << 8 | (b[p + 3] & 0xFF);
+    }
+}
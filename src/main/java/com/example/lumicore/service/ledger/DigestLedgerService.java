@@ -0,0 +1,156 @@
+package com.example.lumicore.service.ledger;
+
+import com.example.lumicore.jpa.entity.DigestKind;
+import com.example.lumicore.jpa.entity.DigestLedger;
+import com.example.lumicore.jpa.repository.DigestLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * digest_ledger 기반 다이제스트 요청 멱등성
+ *
+ * Batch 는 전송 전에 claim 으로 보낼 사용자만 골라 REQUESTED 로 기록하고(별도 트랜잭션으로 먼저 커밋),
+ * 전송에 실패한 사용자만 markFailed 로 FAILED 를 남겨 다음 실행(재시작)에서 다시 보낸다.
+ * AI 응답이 오면 saveDigestFromResponse 가 lockForResponse 로 같은 행을 잠근 채 Digest 를 upsert 하고
+ * COMPLETED 로 바꾼다.
+ *
+ * 응답이 오지 않은 REQUESTED 는 app.digest.ledger.in-flight-timeout-minutes 가 지나면 다시 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DigestLedgerService {
+
+    private final DigestLedgerRepository repository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.digest.ledger.in-flight-timeout-minutes:120}")
+    private long inFlightTimeoutMinutes;
+
+    /**
+     * userIds 중 이번에 보낼 사용자를 REQUESTED 로 기록하고 반환
+     * (이력 없음 / FAILED / 오래된 REQUESTED). COMPLETED 와 응답 대기 중인 REQUESTED 는 제외한다.
+     *
+     * 이력이 없는 사용자의 행은 잠금 조회 전에 별도 트랜잭션으로 먼저 만든다 (createMissing).
+     * 없는 행을 for update 로 읽으면 uk_digest_ledger_key 의 빈 구간에 gap lock 이 걸려,
+     * 인접 user_id 구간을 동시에 처리하는 파티션들이 서로의 insert 를 막아 교착된다.
+     * 잠금 조회 시점에는 모든 행이 존재하므로 행 잠금만 잡는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<UUID> claim(Collection<? extends UUID> userIds, LocalDate start, LocalDate end) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        DigestKind kind = DigestKind.of(start, end);
+        List<UUID> ids = List.copyOf(userIds);
+        createMissing(ids, start, end, kind);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusMinutes(inFlightTimeoutMinutes);
+
+        Map<UUID, DigestLedger> ledgers = repository.findForUpdate(ids, start, end, kind).stream()
+                .collect(Collectors.toMap(DigestLedger::getUserId, Function.identity()));
+
+        List<UUID> targets = new ArrayList<>();
+        for (UUID userId : ids) {
+            DigestLedger ledger = ledgers.get(userId);
+            if (ledger != null && ledger.isResendable(staleBefore)) {
+                ledger.request(now);
+                targets.add(userId);
+            }
+        }
+
+        int skipped = userIds.size() - targets.size();
+        if (skipped > 0) {
+            log.info("다이제스트 요청 건너뜀 (완료 또는 응답 대기): {}명, 기간 {} ~ {}", skipped, start, end);
+        }
+        return targets;
+    }
+
+    /** 큐 전송에 실패한 사용자만 FAILED 로 기록 (userId → 사유) — 다음 실행(재시작)에서 다시 보낸다 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Map<UUID, String> reasons, LocalDate start, LocalDate end) {
+        if (reasons.isEmpty()) {
+            return;
+        }
+        repository.findForUpdate(reasons.keySet(), start, end, DigestKind.of(start, end))
+                .forEach(ledger -> ledger.fail(reasons.get(ledger.getUserId())));
+    }
+
+    /**
+     * 응답 저장용으로 이력 행을 잠가 반환 (없으면 생성)
+     * 같은 사용자·기간의 응답이 중복 전달돼도 호출 트랜잭션 단위로 하나씩 처리된다.
+     *
+     * 행이 없으면 잠금 조회 전에 별도 트랜잭션으로 만든다. 없는 행을 먼저 for update 로 읽으면
+     * 동시에 온 두 응답이 gap lock 을 잡은 채 insert 해 교착되거나 unique 위반으로 응답이 유실된다.
+     * (존재 확인은 잠금 없는 조회라 gap lock 을 잡지 않는다)
+     * 동시에 생성하면 나중 insert 가 uk_digest_ledger_key 위반으로 실패하고, 그대로 기존 행을 잠가 사용한다.
+     */
+    @Transactional
+    public DigestLedger lockForResponse(UUID userId, LocalDate start, LocalDate end) {
+        DigestKind kind = DigestKind.of(start, end);
+        if (!repository.existsByUserIdAndPeriodStartAndPeriodEndAndKind(userId, start, end, kind)) {
+            createIfAbsent(DigestLedger.requested(userId, start, end, LocalDateTime.now()));
+        }
+        return repository.findOneForUpdate(userId, start, end, kind).orElseThrow();
+    }
+
+    /**
+     * 이력이 없는 사용자의 행을 별도 트랜잭션으로 한 번에 생성 (아직 보내지 않은 REQUESTED, claim 에서 바로 대상이 됨)
+     * 존재 확인은 잠금 없는 조회라 gap lock 을 잡지 않는다.
+     * 겹치는 구간을 동시에 claim 해 일괄 insert 가 unique 위반으로 실패하면 한 건씩 다시 만들고 이미 있는 행은 건너뛴다.
+     */
+    private void createMissing(List<UUID> userIds, LocalDate start, LocalDate end, DigestKind kind) {
+        Set<UUID> existing = new HashSet<>(repository.findUserIds(userIds, start, end, kind));
+        List<UUID> missing = userIds.stream()
+                .filter(userId -> !existing.contains(userId))
+                .distinct()
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            requiresNew().executeWithoutResult(status -> repository.saveAllAndFlush(missing.stream()
+                    .map(userId -> DigestLedger.unsent(userId, start, end))
+                    .collect(Collectors.toList())));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("digest_ledger 일괄 생성 충돌 → 건별 생성: {}명, 기간 {} ~ {}", missing.size(), start, end);
+            missing.forEach(userId -> createIfAbsent(DigestLedger.unsent(userId, start, end)));
+        }
+    }
+
+    private void createIfAbsent(DigestLedger ledger) {
+        try {
+            requiresNew().executeWithoutResult(status -> repository.saveAndFlush(ledger));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("digest_ledger 동시 생성 (기존 행 사용): userId={}, 기간 {} ~ {}",
+                    ledger.getUserId(), ledger.getPeriodStart(), ledger.getPeriodEnd());
+        }
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.lumicore.service.lock;
+
+import com.example.lumicore.jpa.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * scheduler_lock 테이블 기반 임대 잠금
+ *
+ * 같은 이름의 작업은 lease 가 살아 있는 동안 한 인스턴스에서만 실행된다.
+ * 작업이 길어지면 tryAcquire 를 다시 호출해 lease 를 연장한다.
+ *
+ * 소유자가 바뀔 때마다 fencing token 이 증가한다. lease 가 끝난 뒤에도 돌고 있는
+ * 이전 소유자(GC 정지, 네트워크 단절 등)의 작업은 isCurrent 로 자신의 token 이
+ * 여전히 최신인지 확인해 부수 효과(큐 전송 등)를 막는다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository repository;
+    private final String owner;
+
+    public SchedulerLockService(SchedulerLockRepository repository) {
+        this.repository = repository;
+        this.owner = hostName() + "-" + UUID.randomUUID();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration lease) {
+        return acquire(name, lease).isPresent();
+    }
+
+    /** 획득(또는 연장)하면 fencing token, 다른 인스턴스가 가지고 있으면 empty */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public OptionalLong acquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lease);
+        boolean acquired = repository.insertIfAbsent(name, owner, until) == 1
+                || repository.acquire(name, owner, now, until) == 1;
+        log.debug("스케줄 잠금 {}: name={}, owner={}", acquired ? "획득" : "실패", name, owner);
+        if (!acquired) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(repository.findFencingToken(name).orElseThrow());
+    }
+
+    /**
+     * token 이 아직 최신인지 (이후 다른 인스턴스가 잠금을 가져가지 않았는지)
+     * 레플리카 지연으로 옛 값을 읽지 않도록 readOnly 를 쓰지 않는다 (primary 조회).
+     */
+    @Transactional
+    public boolean isCurrent(String name, long token) {
+        return repository.findFencingToken(name)
+                .map(current -> current == token)
+                .orElse(false);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name) {
+        repository.release(name, owner, LocalDateTime.now());
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
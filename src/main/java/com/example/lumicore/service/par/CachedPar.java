@@ -0,0 +1,19 @@
+package com.example.lumicore.service.par;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관되는 READ-PAR URL 과 만료 시각
+ */
+@Value
+public class CachedPar {
+    String accessUri;
+    LocalDateTime expiresAt;
+
+    /** 만료까지 minRemainingMinutes 이상 남아 있으면 재사용 가능 */
+    public boolean isUsable(LocalDateTime now, long minRemainingMinutes) {
+        return expiresAt.minusMinutes(minRemainingMinutes).isAfter(now);
+    }
+}
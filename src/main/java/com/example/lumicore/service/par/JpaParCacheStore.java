@@ -0,0 +1,50 @@
+package com.example.lumicore.service.par;
+
+import com.example.lumicore.jpa.entity.ParCacheEntry;
+import com.example.lumicore.jpa.repository.ParCacheEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MySQL par_cache 테이블 기반 공유 스토어 (app.par-cache.shared=true 일 때만 등록)
+ *
+ * readOnly 트랜잭션 안에서 호출되어도 반영되도록 쓰기는 별도 트랜잭션으로 수행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.par-cache.shared", havingValue = "true")
+@RequiredArgsConstructor
+public class JpaParCacheStore implements ParCacheStore {
+
+    private final ParCacheEntryRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CachedPar> find(String objectKey) {
+        return repository.findById(objectKey)
+                .map(e -> new CachedPar(e.getAccessUri(), e.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(String objectKey, CachedPar par) {
+        repository.save(ParCacheEntry.of(objectKey, par.getAccessUri(), par.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void delete(String objectKey) {
+        repository.deleteById(objectKey);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteExpiringBefore(LocalDateTime threshold) {
+        return repository.deleteExpiringBefore(threshold);
+    }
+}
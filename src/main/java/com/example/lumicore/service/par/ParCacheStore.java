@@ -0,0 +1,19 @@
+package com.example.lumicore.service.par;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 레플리카 간 READ-PAR 을 공유하기 위한 백킹 스토어
+ */
+public interface ParCacheStore {
+
+    Optional<CachedPar> find(String objectKey);
+
+    void save(String objectKey, CachedPar par);
+
+    void delete(String objectKey);
+
+    /** threshold 이전에 만료되는 항목 일괄 삭제 */
+    int deleteExpiringBefore(LocalDateTime threshold);
+}
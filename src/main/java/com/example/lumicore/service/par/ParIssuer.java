@@ -0,0 +1,122 @@
+package com.example.lumicore.service.par;
+
+import com.example.lumicore.storage.ObjectStoragePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * PAR 발급기 (실제 발급은 ObjectStoragePort 구현체가 수행)
+ *
+ * 여러 건을 요청하면 전용 스레드 풀에서 동시에 발급하고, 입력 순서대로 결과를 돌려준다.
+ * 건별 타임아웃(app.par.issuer.call-timeout-ms)과 전체 데드라인(app.par.issuer.deadline-ms)을 넘긴
+ * 요청이나 실패한 요청은 예외 대신 ParResult.failure 로 반환한다.
+ */
+@Slf4j
+@Component
+public class ParIssuer {
+
+    private final ObjectStoragePort objectStorage;
+    private final ExecutorService executor;
+
+    @Value("${app.par.issuer.call-timeout-ms:5000}")
+    private long callTimeoutMs;
+
+    @Value("${app.par.issuer.deadline-ms:10000}")
+    private long deadlineMs;
+
+    public ParIssuer(ObjectStoragePort objectStorage,
+                     @Qualifier("parIssuerExecutor") ExecutorService executor) {
+        this.objectStorage = objectStorage;
+        this.executor = executor;
+    }
+
+    /** PAR 1건 발급 (issueAll 과 같은 타임아웃 적용, 실패하면 예외) */
+    public String issue(ParSpec spec) {
+        ParResult result = issueAll(List.of(spec)).get(0);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException(result.getError() + ": objectName=" + spec.getObjectName());
+        }
+        return result.getAccessUri();
+    }
+
+    /**
+     * 여러 건 병렬 발급 — 결과는 specs 와 같은 순서 (1건이어도 풀에서 실행해 타임아웃을 건다)
+     * 타임아웃된 OCI 호출은 취소해도 끝나지 않으므로, 풀 스레드는 클라이언트의
+     * connect/read 타임아웃(app.objectstorage.oci.*-timeout-ms)으로 회수된다.
+     */
+    public List<ParResult> issueAll(List<ParSpec> specs) {
+        List<CompletableFuture<ParResult>> futures = new ArrayList<>(specs.size());
+        for (ParSpec spec : specs) {
+            CompletableFuture<ParResult> future;
+            try {
+                future = CompletableFuture
+                        .supplyAsync(() -> issueQuietly(spec), executor)
+                        .orTimeout(callTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 풀·대기열이 가득 참 → 호출 스레드에서 실행하지 않고 해당 건만 실패 처리
+                log.warn("PAR 발급 대기열 초과: objectName={}", spec.getObjectName());
+                future = CompletableFuture.completedFuture(ParResult.failure("PAR 발급 대기열 초과"));
+            }
+            futures.add(future);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        List<ParResult> results = new ArrayList<>(specs.size());
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<ParResult> future = futures.get(i);
+            String objectName = specs.get(i).getObjectName();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("PAR 발급 데드라인 초과: objectName={}", objectName);
+                results.add(ParResult.failure("PAR 발급 시간 초과"));
+            } catch (ExecutionException e) {
+                // orTimeout 에 의한 건별 타임아웃
+                log.warn("PAR 발급 시간 초과: objectName={}", objectName);
+                results.add(ParResult.failure("PAR 발급 시간 초과"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(ParResult.failure("PAR 발급 중단"));
+            }
+        }
+        return results;
+    }
+
+    private ParResult issueQuietly(ParSpec spec) {
+        try {
+            return ParResult.success(objectStorage.createPar(spec), spec.getExpiresAt());
+        } catch (Exception e) {
+            log.error("PAR 생성 실패: objectName={}, accessType={}",
+                    spec.getObjectName(), spec.getAccessType(), e);
+            return ParResult.failure("PAR 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * prefix 단위 PAR 의 base URI("…/o/") 뒤에 object 이름을 붙여 파일별 URL 생성
+     * 경로 구분자('/')는 유지하고 각 세그먼트만 인코딩한다.
+     */
+    public static String objectUri(String baseUri, String objectName) {
+        String encoded = Arrays.stream(objectName.split("/", -1))
+                .map(segment -> URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"))
+                .collect(Collectors.joining("/"));
+        return baseUri.endsWith("/") ? baseUri + encoded : baseUri + "/" + encoded;
+    }
+}
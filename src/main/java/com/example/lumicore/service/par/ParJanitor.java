@@ -0,0 +1,374 @@
+package com.example.lumicore.service.par;
+
+import com.example.lumicore.jpa.repository.DiaryPhotoRepository;
+import com.example.lumicore.jpa.repository.DiaryRepository;
+import com.example.lumicore.service.lock.SchedulerLockService;
+import com.oracle.bmc.model.BmcException;
+import com.oracle.bmc.objectstorage.ObjectStorage;
+import com.oracle.bmc.objectstorage.model.PreauthenticatedRequestSummary;
+import com.oracle.bmc.objectstorage.requests.DeletePreauthenticatedRequestRequest;
+import com.oracle.bmc.objectstorage.requests.ListPreauthenticatedRequestsRequest;
+import com.oracle.bmc.objectstorage.responses.ListPreauthenticatedRequestsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 버킷에 쌓이는 PAR 정리 작업
+ *
+ * listPreauthenticatedRequests 를 페이지 단위로 훑으며 다음 PAR 을 삭제한다.
+ * - 만료된 PAR
+ * - 이 서비스가 만든 PAR("read-" / "upload-") 중 생성 후 orphan-grace-minutes 가 지났고,
+ *   대상 사진(또는 다이어리 prefix)이 삭제되었거나 존재하지 않는 PAR
+ *
+ * 삭제는 parallelism 건씩 병렬 배치로, 초당 deletes-per-second 건 이하로 수행한다.
+ * OCI 가 429 를 돌려주면 배치 사이에 지수적으로 늘어나는 대기 후 해당 건을 다시 시도한다.
+ * scheduler_lock 임대 잠금으로 레플리카 중 한 곳에서만 실행된다.
+ * PAR 목록·삭제는 OCI 전용이므로 app.objectstorage.adapter=oci 일 때만 등록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.par.janitor.enabled:true} and '${app.objectstorage.adapter:oci}' == 'oci'")
+public class ParJanitor {
+
+    static final String LOCK_NAME = "par-janitor";
+
+    private static final String DIARY_PREFIX = "diary/";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ObjectStorage objectStorage;
+    private final DiaryRepository diaryRepository;
+    private final DiaryPhotoRepository diaryPhotoRepository;
+    private final ReadParCache readParCache;
+    private final SchedulerLockService lockService;
+
+    private final Counter scanned;
+    private final Counter deletedExpired;
+    private final Counter deletedOrphaned;
+    private final Counter throttled;
+    private final Counter failed;
+
+    @Value("${oci.objectstorage.namespace}")
+    private String namespaceName;
+
+    @Value("${oci.objectstorage.bucket}")
+    private String bucketName;
+
+    @Value("${app.par.janitor.page-size:1000}")
+    private int pageSize;
+
+    @Value("${app.par.janitor.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.par.janitor.deletes-per-second:20}")
+    private int deletesPerSecond;
+
+    @Value("${app.par.janitor.orphan-grace-minutes:120}")
+    private long orphanGraceMinutes;
+
+    @Value("${app.par.janitor.throttle-pause-ms:5000}")
+    private long throttlePauseMs;
+
+    @Value("${app.par.janitor.max-throttle-pause-ms:60000}")
+    private long maxThrottlePauseMs;
+
+    @Value("${app.par.janitor.lease-minutes:30}")
+    private long leaseMinutes;
+
+    public ParJanitor(ObjectStorage objectStorage,
+                      DiaryRepository diaryRepository,
+                      DiaryPhotoRepository diaryPhotoRepository,
+                      ReadParCache readParCache,
+                      SchedulerLockService lockService,
+                      MeterRegistry meterRegistry) {
+        this.objectStorage = objectStorage;
+        this.diaryRepository = diaryRepository;
+        this.diaryPhotoRepository = diaryPhotoRepository;
+        this.readParCache = readParCache;
+        this.lockService = lockService;
+        this.scanned = meterRegistry.counter("par.janitor.scanned");
+        this.deletedExpired = meterRegistry.counter("par.janitor.deleted", "reason", "expired");
+        this.deletedOrphaned = meterRegistry.counter("par.janitor.deleted", "reason", "orphaned");
+        this.throttled = meterRegistry.counter("par.janitor.throttled");
+        this.failed = meterRegistry.counter("par.janitor.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${app.par.janitor.interval-ms:3600000}",
+            initialDelayString = "${app.par.janitor.initial-delay-ms:300000}")
+    public void run() {
+        Duration lease = Duration.ofMinutes(leaseMinutes);
+        if (!lockService.tryAcquire(LOCK_NAME, lease)) {
+            log.debug("PAR 정리 건너뜀: 다른 인스턴스가 실행 중");
+            return;
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "par-janitor-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            sweep(pool, lease);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("PAR 정리 실패", e);
+        } finally {
+            pool.shutdownNow();
+            lockService.release(LOCK_NAME);
+        }
+    }
+
+    private void sweep(ExecutorService pool, Duration lease) throws InterruptedException {
+        long pause = throttlePauseMs;
+        int scannedTotal = 0;
+        int deletedTotal = 0;
+        String page = null;
+
+        while (true) {
+            ListPreauthenticatedRequestsResponse response;
+            try {
+                response = objectStorage.listPreauthenticatedRequests(
+                        ListPreauthenticatedRequestsRequest.builder()
+                                .namespaceName(namespaceName)
+                                .bucketName(bucketName)
+                                .limit(pageSize)
+                                .page(page)
+                                .build());
+            } catch (BmcException e) {
+                if (e.getStatusCode() != 429) {
+                    throw e;
+                }
+                throttled.increment();
+                log.warn("PAR 목록 조회 429 — {}ms 대기", pause);
+                Thread.sleep(pause);
+                pause = Math.min(pause * 2, maxThrottlePauseMs);
+                continue;
+            }
+            pause = throttlePauseMs;
+
+            List<PreauthenticatedRequestSummary> items = response.getItems();
+            scanned.increment(items.size());
+            scannedTotal += items.size();
+            deletedTotal += deleteAll(pool, selectDeletable(items));
+
+            page = response.getOpcNextPage();
+            if (page == null) {
+                break;
+            }
+
+            // 페이지마다 lease 연장 — 연장에 실패하면 다른 인스턴스에 넘기고 중단
+            if (!lockService.tryAcquire(LOCK_NAME, lease)) {
+                log.warn("PAR 정리 중단: 잠금 연장 실패");
+                break;
+            }
+        }
+
+        log.info("PAR 정리 완료: scanned={}, deleted={}", scannedTotal, deletedTotal);
+    }
+
+    /** 만료되었거나 대상이 사라진 PAR 선별 */
+    private List<Doomed> selectDeletable(List<PreauthenticatedRequestSummary> items) {
+        Instant now = Instant.now();
+        Instant graceLimit = now.minus(Duration.ofMinutes(orphanGraceMinutes));
+
+        List<Doomed> doomed = new ArrayList<>();
+        List<PreauthenticatedRequestSummary> orphanCandidates = new ArrayList<>();
+        for (PreauthenticatedRequestSummary par : items) {
+            if (par.getTimeExpires() != null && par.getTimeExpires().toInstant().isBefore(now)) {
+                doomed.add(new Doomed(par, false));
+            } else if (isOwnPar(par)
+                    && par.getObjectName() != null
+                    && par.getTimeCreated() != null
+                    && par.getTimeCreated().toInstant().isBefore(graceLimit)) {
+                orphanCandidates.add(par);
+            }
+        }
+        if (orphanCandidates.isEmpty()) {
+            return doomed;
+        }
+
+        // 페이지 단위로 한 번에 조회
+        Set<UUID> diaryIds = new HashSet<>();
+        Set<String> objectKeys = new HashSet<>();
+        for (PreauthenticatedRequestSummary par : orphanCandidates) {
+            String name = par.getObjectName();
+            if (name.endsWith("/")) {
+                UUID diaryId = prefixDiaryId(name);
+                if (diaryId != null) {
+                    diaryIds.add(diaryId);
+                }
+            } else {
+                objectKeys.add(name);
+                if (name.startsWith(DIARY_PREFIX)) {
+                    // "diary/" 없이 저장된 기존 키
+                    objectKeys.add(name.substring(DIARY_PREFIX.length()));
+                }
+            }
+        }
+        Set<UUID> liveDiaries = diaryIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(diaryRepository.findLiveIds(diaryIds));
+        Set<String> liveKeys = new HashSet<>();
+        if (!objectKeys.isEmpty()) {
+            liveKeys.addAll(diaryPhotoRepository.findLiveObjectKeys(objectKeys));
+            liveKeys.addAll(diaryPhotoRepository.findLiveThumbnailKeys(objectKeys));
+        }
+
+        for (PreauthenticatedRequestSummary par : orphanCandidates) {
+            String name = par.getObjectName();
+            boolean live;
+            if (name.endsWith("/")) {
+                UUID diaryId = prefixDiaryId(name);
+                // 이 서비스의 prefix 형식이 아니면 건드리지 않음
+                live = diaryId == null || liveDiaries.contains(diaryId);
+            } else {
+                live = liveKeys.contains(name)
+                        || (name.startsWith(DIARY_PREFIX) && liveKeys.contains(name.substring(DIARY_PREFIX.length())));
+            }
+            if (!live) {
+                doomed.add(new Doomed(par, true));
+            }
+        }
+        return doomed;
+    }
+
+    /** parallelism 건씩 병렬 삭제, 배치 간 속도 제한 및 429 대기 — 삭제 건수 반환 */
+    private int deleteAll(ExecutorService pool, List<Doomed> doomed) throws InterruptedException {
+        Deque<Doomed> pending = new ArrayDeque<>(doomed);
+        long pause = throttlePauseMs;
+        int deleted = 0;
+
+        while (!pending.isEmpty()) {
+            List<Doomed> batch = new ArrayList<>(parallelism);
+            while (batch.size() < parallelism && !pending.isEmpty()) {
+                batch.add(pending.poll());
+            }
+
+            long startedAt = System.nanoTime();
+            List<Future<Outcome>> futures = new ArrayList<>(batch.size());
+            for (Doomed d : batch) {
+                futures.add(pool.submit(() -> delete(d.par)));
+            }
+
+            boolean wasThrottled = false;
+            for (int i = 0; i < batch.size(); i++) {
+                Doomed d = batch.get(i);
+                Outcome outcome;
+                try {
+                    outcome = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    outcome = Outcome.FAILED;
+                }
+
+                switch (outcome) {
+                    case DELETED -> {
+                        deleted++;
+                        if (d.orphaned) {
+                            deletedOrphaned.increment();
+                            readParCache.evict(d.par.getObjectName());
+                        } else {
+                            deletedExpired.increment();
+                        }
+                    }
+                    case THROTTLED -> {
+                        wasThrottled = true;
+                        throttled.increment();
+                        if (++d.attempts < MAX_ATTEMPTS) {
+                            pending.addLast(d);
+                        }
+                    }
+                    case GONE -> {
+                    }
+                    case FAILED -> failed.increment();
+                }
+            }
+
+            if (wasThrottled) {
+                log.warn("PAR 삭제 429 — {}ms 대기", pause);
+                Thread.sleep(pause);
+                pause = Math.min(pause * 2, maxThrottlePauseMs);
+            } else {
+                pause = throttlePauseMs;
+                long minBatchMillis = batch.size() * 1000L / Math.max(1, deletesPerSecond);
+                long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+                if (elapsedMillis < minBatchMillis) {
+                    Thread.sleep(minBatchMillis - elapsedMillis);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private Outcome delete(PreauthenticatedRequestSummary par) {
+        try {
+            objectStorage.deletePreauthenticatedRequest(DeletePreauthenticatedRequestRequest.builder()
+                    .namespaceName(namespaceName)
+                    .bucketName(bucketName)
+                    .parId(par.getId())
+                    .build());
+            return Outcome.DELETED;
+        } catch (BmcException e) {
+            if (e.getStatusCode() == 429) {
+                return Outcome.THROTTLED;
+            }
+            if (e.getStatusCode() == 404) {
+                // 다른 경로에서 이미 삭제됨
+                return Outcome.GONE;
+            }
+            log.warn("PAR 삭제 실패: parId={}, status={}", par.getId(), e.getStatusCode());
+            return Outcome.FAILED;
+        }
+    }
+
+    private boolean isOwnPar(PreauthenticatedRequestSummary par) {
+        String name = par.getName();
+        return name != null && (name.startsWith("read-") || name.startsWith("upload-"));
+    }
+
+    /** "diary/{diaryId}/" → diaryId, 형식이 다르면 null */
+    private UUID prefixDiaryId(String objectName) {
+        if (!objectName.startsWith(DIARY_PREFIX)) {
+            return null;
+        }
+        String id = objectName.substring(DIARY_PREFIX.length(), objectName.length() - 1);
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private enum Outcome { DELETED, THROTTLED, GONE, FAILED }
+
+    private static final class Doomed {
+        private final PreauthenticatedRequestSummary par;
+        private final boolean orphaned;
+        private int attempts;
+
+        private Doomed(PreauthenticatedRequestSummary par, boolean orphaned) {
+            this.par = par;
+            this.orphaned = orphaned;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.lumicore.service.par;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * PAR 발급 결과 (실패 시 accessUri 는 null, error 에 사유)
+ */
+@Value
+public class ParResult {
+    String accessUri;
+    LocalDateTime expiresAt;
+    String error;
+
+    public static ParResult success(String accessUri, LocalDateTime expiresAt) {
+        return new ParResult(accessUri, expiresAt, null);
+    }
+
+    public static ParResult failure(String error) {
+        return new ParResult(null, null, error);
+    }
+
+    public boolean isSuccess() {
+        return accessUri != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.lumicore.service.par;
+
+import com.oracle.bmc.objectstorage.model.CreatePreauthenticatedRequestDetails.AccessType;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급할 PAR 1건의 명세
+ */
+@Value
+public class ParSpec {
+    String parName;
+    String objectName;
+    AccessType accessType;
+    LocalDateTime expiresAt;
+}
@@ -0,0 +1,160 @@
+package com.example.lumicore.service.par;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * objectKey → READ-PAR 캐시
+ *
+ * - 1차: 프로세스 내 LRU (app.par-cache.max-size 로 크기 제한)
+ * - 2차: ParCacheStore (app.par-cache.shared=true 일 때 레플리카 간 공유)
+ * 만료까지 app.par-cache.min-remaining-minutes 미만으로 남은 URL 은 내주지 않고 제거한다.
+ */
+@Slf4j
+@Component
+public class ReadParCache {
+
+    private final ParCacheStore sharedStore;
+    private final Counter localHits;
+    private final Counter sharedHits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Value("${app.par-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.par-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.par-cache.min-remaining-minutes:15}")
+    private long minRemainingMinutes;
+
+    private final Map<String, CachedPar> local = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPar> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public ReadParCache(ObjectProvider<ParCacheStore> sharedStore, MeterRegistry meterRegistry) {
+        this.sharedStore = sharedStore.getIfAvailable();
+        this.localHits = meterRegistry.counter("par.cache.requests", "result", "hit", "tier", "local");
+        this.sharedHits = meterRegistry.counter("par.cache.requests", "result", "hit", "tier", "shared");
+        this.misses = meterRegistry.counter("par.cache.requests", "result", "miss", "tier", "none");
+        this.evictions = meterRegistry.counter("par.cache.evictions");
+        meterRegistry.gauge("par.cache.size", local, m -> {
+            synchronized (m) {
+                return m.size();
+            }
+        });
+    }
+
+    /** 충분한 유효기간이 남은 URL 이 있으면 반환 */
+    public Optional<String> get(String objectKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (local) {
+            CachedPar par = local.get(objectKey);
+            if (par != null) {
+                if (par.isUsable(now, minRemainingMinutes)) {
+                    localHits.increment();
+                    return Optional.of(par.getAccessUri());
+                }
+                local.remove(objectKey);
+                evictions.increment();
+            }
+        }
+
+        if (sharedStore != null) {
+            try {
+                Optional<CachedPar> shared = sharedStore.find(objectKey)
+                        .filter(p -> p.isUsable(now, minRemainingMinutes));
+                if (shared.isPresent()) {
+                    synchronized (local) {
+                        local.put(objectKey, shared.get());
+                    }
+                    sharedHits.increment();
+                    return Optional.of(shared.get().getAccessUri());
+                }
+            } catch (Exception e) {
+                // 공유 스토어 장애 시 PAR 신규 발급으로 진행
+                log.warn("PAR 공유 캐시 조회 실패: objectKey={}", objectKey, e);
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String objectKey, String accessUri, LocalDateTime expiresAt) {
+        if (!enabled) {
+            return;
+        }
+        CachedPar par = new CachedPar(accessUri, expiresAt);
+        synchronized (local) {
+            local.put(objectKey, par);
+        }
+        if (sharedStore != null) {
+            try {
+                sharedStore.save(objectKey, par);
+            } catch (Exception e) {
+                log.warn("PAR 공유 캐시 저장 실패: objectKey={}", objectKey, e);
+            }
+        }
+    }
+
+    public void evict(String objectKey) {
+        synchronized (local) {
+            local.remove(objectKey);
+        }
+        if (sharedStore != null) {
+            try {
+                sharedStore.delete(objectKey);
+            } catch (Exception e) {
+                // 남은 항목은 만료 임박 시 get/purgeExpiring 에서 걸러진다
+                log.warn("PAR 공유 캐시 삭제 실패: objectKey={}", objectKey, e);
+            }
+        }
+    }
+
+    /** 곧 만료될 항목을 주기적으로 정리 */
+    @Scheduled(fixedDelayString = "${app.par-cache.purge-interval-ms:300000}")
+    public void purgeExpiring() {
+        LocalDateTime threshold = LocalDateTime.now().plusMinutes(minRemainingMinutes);
+        int removed;
+        synchronized (local) {
+            int before = local.size();
+            local.values().removeIf(p -> !p.getExpiresAt().isAfter(threshold));
+            removed = before - local.size();
+        }
+        evictions.increment(removed);
+
+        if (sharedStore != null) {
+            try {
+                removed += sharedStore.deleteExpiringBefore(threshold);
+            } catch (Exception e) {
+                log.warn("PAR 공유 캐시 정리 실패", e);
+            }
+        }
+        if (removed > 0) {
+            log.debug("🧹 만료 임박 PAR 캐시 정리: {}건", removed);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.lumicore.service.thumbnail;
+
+import lombok.Value;
+
+/**
+ * 렌더링 결과 — JPEG 바이트와 원본의 지각 해시(dHash 64bit)
+ */
+@Value
+public class Thumbnail {
+    byte[] bytes;
+    long perceptualHash;
+}
@@ -0,0 +1,114 @@
+package com.example.lumicore.service.thumbnail;
+
+import com.example.lumicore.jpa.entity.DiaryPhoto;
+import com.example.lumicore.jpa.repository.DiaryPhotoRepository;
+import com.example.lumicore.jpa.repository.DiaryRepository;
+import com.example.lumicore.storage.ObjectStoragePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 업로드가 끝난 다이어리 사진의 썸네일을 만들어 원본 옆 키에 저장
+ *
+ * - diary/{name}            → diary/thumb/{name}.jpg
+ * - diary/{diaryId}/{name}  → diary/{diaryId}/thumb/{name}.jpg (prefix PAR 범위 안에 유지)
+ *
+ * 원본의 dHash 도 함께 저장해 중복 사진 판별(PhotoDedupService)에 쓴다.
+ * 실패하거나 풀이 가득 차 거절된 사진은 thumbnailKey 가 null 로 남아 원본 URL 로 대체된다.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private final ObjectStoragePort objectStorage;
+    private final ThumbnailRenderer renderer;
+    private final DiaryPhotoRepository diaryPhotoRepository;
+    private final DiaryRepository diaryRepository;
+    private final ExecutorService executor;
+
+    @Value("${app.thumbnail.enabled:true}")
+    private boolean enabled;
+
+    public ThumbnailService(ObjectStoragePort objectStorage,
+                            ThumbnailRenderer renderer,
+                            DiaryPhotoRepository diaryPhotoRepository,
+                            DiaryRepository diaryRepository,
+                            @Qualifier("thumbnailExecutor") ExecutorService executor) {
+        this.objectStorage = objectStorage;
+        this.renderer = renderer;
+        this.diaryPhotoRepository = diaryPhotoRepository;
+        this.diaryRepository = diaryRepository;
+        this.executor = executor;
+    }
+
+    /** 다이어리의 썸네일 없는 사진들을 비동기로 처리 */
+    public void generateForDiaryAsync(UUID diaryId) {
+        generateForDiary(diaryId);
+    }
+
+    /** 다이어리의 썸네일 없는 사진들을 풀에 등록하고, 모두 끝나면 완료되는 future 반환 */
+    public CompletableFuture<Void> generateForDiary(UUID diaryId) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (DiaryPhoto photo : diaryPhotoRepository.findByDiaryId(diaryId)) {
+            if (photo.getThumbnailKey() != null) {
+                continue;
+            }
+            UUID photoId = photo.getId();
+            String objectKey = fullKey(photo.getObjectKey());
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> generate(photoId, objectKey), executor));
+            } catch (RejectedExecutionException e) {
+                log.warn("썸네일 작업 거절 (풀 포화): photoId={}", photoId);
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /** 사진 1장 동기 처리 — 생성된 썸네일 키 반환, 실패 시 null */
+    public String generate(UUID photoId, String objectKey) {
+        String thumbnailKey = thumbnailKey(objectKey);
+        try {
+            Thumbnail thumbnail;
+            try (InputStream original = objectStorage.get(objectKey)) {
+                thumbnail = renderer.render(original);
+            }
+            byte[] bytes = thumbnail.getBytes();
+            objectStorage.put(thumbnailKey, new ByteArrayInputStream(bytes),
+                    bytes.length, ThumbnailRenderer.CONTENT_TYPE);
+            diaryPhotoRepository.updateThumbnail(photoId, thumbnailKey, thumbnail.getPerceptualHash());
+            diaryRepository.bumpRevisionByPhotoId(photoId);
+            log.debug("썸네일 생성: photoId={}, key={}, bytes={}", photoId, thumbnailKey, bytes.length);
+            return thumbnailKey;
+        } catch (Exception e) {
+            log.warn("썸네일 생성 실패: photoId={}, objectKey={} ({})", photoId, objectKey, e.getMessage());
+            return null;
+        }
+    }
+
+    public static String thumbnailKey(String objectKey) {
+        int slash = objectKey.lastIndexOf('/');
+        String dir = objectKey.substring(0, slash + 1);
+        String name = objectKey.substring(slash + 1);
+        return dir + "thumb/" + name + ".jpg";
+    }
+
+    private String fullKey(String rawKey) {
+        return rawKey.startsWith("diary/")
+                ? rawKey
+                : "diary/" + rawKey;
+    }
+}
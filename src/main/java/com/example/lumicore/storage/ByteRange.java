@@ -0,0 +1,39 @@
+package com.example.lumicore.storage;
+
+import lombok.Value;
+
+/**
+ * HTTP Range 의 단일 구간 (양 끝 포함)
+ * - start 만: start 부터 끝까지
+ * - end 만: 마지막 end 바이트 (suffix)
+ */
+@Value
+public class ByteRange {
+
+    Long start;
+    Long end;
+
+    public static ByteRange of(long start, long end) {
+        return new ByteRange(start, end);
+    }
+
+    /** 전체 길이에 대해 [시작, 끝] 으로 확정, 만족할 수 없으면 null */
+    public long[] resolve(long totalLength) {
+        long from;
+        long to;
+        if (start == null) {
+            if (end == null || end <= 0) {
+                return null;
+            }
+            from = Math.max(0, totalLength - end);
+            to = totalLength - 1;
+        } else {
+            from = start;
+            to = end == null ? totalLength - 1 : Math.min(end, totalLength - 1);
+        }
+        if (from >= totalLength || from > to) {
+            return null;
+        }
+        return new long[]{from, to};
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.lumicore.storage;
+
+import com.example.lumicore.service.par.ParSpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 로컬 디렉터리를 Object Storage 대신 사용하는 어댑터 (app.objectstorage.adapter=filesystem)
+ *
+ * object 이름의 '/' 는 하위 디렉터리로 매핑된다.
+ * mmap-threshold-bytes 이상인 구간은 메모리 매핑으로, 그보다 작으면 FileChannel 로 읽는다.
+ * PAR 은 실제 권한 없이 OCI 와 같은 모양의 URI 만 만들어 준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.objectstorage.adapter", havingValue = "filesystem")
+public class FileSystemObjectStorageAdapter implements ObjectStoragePort {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final Path root;
+
+    @Value("${app.objectstorage.filesystem.mmap-threshold-bytes:65536}")
+    private long mmapThresholdBytes;
+
+    @Value("${app.objectstorage.local.par-base-url:http://localhost:8082/local-objects}")
+    private String parBaseUrl;
+
+    public FileSystemObjectStorageAdapter(
+            @Value("${app.objectstorage.filesystem.root:${java.io.tmpdir}/lumicore-objects}") String root)
+            throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        Files.createDirectories(this.root);
+        log.info("파일시스템 Object Storage 어댑터 사용: root={}", this.root);
+    }
+
+    @Override
+    public String createPar(ParSpec spec) {
+        return LocalParUris.create(parBaseUrl, spec);
+    }
+
+    @Override
+    public ObjectContent get(String objectName, ByteRange range, String ifNoneMatch) throws IOException {
+        Path path = resolve(objectName);
+        ObjectMetadata metadata = metadata(path, false);
+        if (ifNoneMatch != null && ifNoneMatch.equals(metadata.getETag())) {
+            return ObjectContent.builder().metadata(metadata).notModified(true).build();
+        }
+
+        long total = metadata.getContentLength();
+        long from = 0;
+        long to = total - 1;
+        if (range != null) {
+            long[] resolved = range.resolve(total);
+            if (resolved == null) {
+                throw new ObjectStorageException(416, "Range not satisfiable: " + objectName);
+            }
+            from = resolved[0];
+            to = resolved[1];
+        }
+        long length = Math.max(0, to - from + 1);
+
+        return ObjectContent.builder()
+                .body(open(path, from, length))
+                .metadata(metadata)
+                .rangeStart(range != null ? from : null)
+                .rangeEnd(range != null ? to : null)
+                .length(length)
+                .build();
+    }
+
+    @Override
+    public PutResult put(String objectName, InputStream body, long contentLength, String contentType) throws IOException {
+        Path target = resolve(objectName);
+        Files.createDirectories(target.getParent());
+        // 임시 파일에 쓴 뒤 이동해서 읽는 쪽이 반쯤 쓰인 파일을 보지 않도록 함
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        long bytes;
+        try {
+            bytes = Files.copy(body, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return new PutResult(bytes, 1, metadata(target, false).getETag());
+    }
+
+    @Override
+    public Optional<ObjectMetadata> head(String objectName) throws IOException {
+        Path path = resolve(objectName);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(metadata(path, true));
+    }
+
+    private InputStream open(Path path, long offset, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (length >= mmapThresholdBytes) {
+                // 매핑은 채널을 닫아도 유효
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                return new ByteBufferInputStream(mapped);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) length);
+            channel.position(offset);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return new ByteBufferInputStream(buffer);
+        } catch (NoSuchFileException e) {
+            throw new ObjectStorageException(404, "Object not found: " + path.getFileName(), e);
+        }
+    }
+
+    private ObjectMetadata metadata(Path path, boolean withMd5) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new ObjectStorageException(404, "Object not found: " + path.getFileName(), e);
+        }
+        long modified = attributes.lastModifiedTime().toMillis();
+        String contentType = Files.probeContentType(path);
+        return ObjectMetadata.builder()
+                .contentLength(attributes.size())
+                .contentType(contentType != null ? contentType : DEFAULT_CONTENT_TYPE)
+                .eTag("\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(modified) + "\"")
+                .contentMd5(withMd5 ? md5(path, attributes.size()) : null)
+                .lastModified(new Date(modified))
+                .build();
+    }
+
+    private String md5(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            if (size > 0) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path resolve(String objectName) {
+        Path path = root.resolve(objectName).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid object name: " + objectName);
+        }
+        return path;
+    }
+
+    /** ByteBuffer(매핑 포함)를 복사 없이 읽는 스트림 */
+    static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.lumicore.storage;
+
+import com.example.lumicore.service.par.ParSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 프로세스 메모리에 object 를 보관하는 어댑터 (app.objectstorage.adapter=memory)
+ *
+ * 호출마다 app.objectstorage.memory.latency.* 만큼(± jitter) 지연을 넣고,
+ * throughput-mib-per-sec 가 0 보다 크면 전송 크기에 비례한 시간을 더해 OCI 왕복을 흉내 낸다.
+ * 업로드·읽기 세션·썸네일 경로를 OCI 없이 측정하는 용도이며 재시작하면 내용은 사라진다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.objectstorage.adapter", havingValue = "memory")
+public class InMemoryObjectStorageAdapter implements ObjectStoragePort {
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    @Value("${app.objectstorage.memory.latency.par-ms:0}")
+    private long parLatencyMs;
+
+    @Value("${app.objectstorage.memory.latency.get-ms:0}")
+    private long getLatencyMs;
+
+    @Value("${app.objectstorage.memory.latency.put-ms:0}")
+    private long putLatencyMs;
+
+    @Value("${app.objectstorage.memory.latency.head-ms:0}")
+    private long headLatencyMs;
+
+    @Value("${app.objectstorage.memory.latency.jitter-ms:0}")
+    private long jitterMs;
+
+    @Value("${app.objectstorage.memory.throughput-mib-per-sec:0}")
+    private double throughputMibPerSec;
+
+    @Value("${app.objectstorage.local.par-base-url:http://localhost:8082/local-objects}")
+    private String parBaseUrl;
+
+    @Override
+    public String createPar(ParSpec spec) {
+        delay(parLatencyMs, 0);
+        return LocalParUris.create(parBaseUrl, spec);
+    }
+
+    @Override
+    public ObjectContent get(String objectName, ByteRange range, String ifNoneMatch) {
+        StoredObject object = objects.get(objectName);
+        if (object == null) {
+            delay(getLatencyMs, 0);
+            throw new ObjectStorageException(404, "Object not found: " + objectName);
+        }
+        if (ifNoneMatch != null && ifNoneMatch.equals(object.metadata.getETag())) {
+            delay(getLatencyMs, 0);
+            return ObjectContent.builder().metadata(object.metadata).notModified(true).build();
+        }
+
+        int from = 0;
+        int to = object.data.length - 1;
+        if (range != null) {
+            long[] resolved = range.resolve(object.data.length);
+            if (resolved == null) {
+                delay(getLatencyMs, 0);
+                throw new ObjectStorageException(416, "Range not satisfiable: " + objectName);
+            }
+            from = (int) resolved[0];
+            to = (int) resolved[1];
+        }
+        int length = Math.max(0, to - from + 1);
+        delay(getLatencyMs, length);
+
+        return ObjectContent.builder()
+                .body(new ByteArrayInputStream(object.data, from, length))
+                .metadata(object.metadata)
+                .rangeStart(range != null ? (long) from : null)
+                .rangeEnd(range != null ? (long) to : null)
+                .length(length)
+                .build();
+    }
+
+    @Override
+    public PutResult put(String objectName, InputStream body, long contentLength, String contentType) throws IOException {
+        byte[] data = body.readAllBytes();
+        delay(putLatencyMs, data.length);
+        ObjectMetadata metadata = ObjectMetadata.builder()
+                .contentLength(data.length)
+                .contentType(contentType)
+                .eTag("\"" + UUID.randomUUID() + "\"")
+                .contentMd5(md5(data))
+                .lastModified(new Date())
+                .build();
+        objects.put(objectName, new StoredObject(data, metadata));
+        return new PutResult(data.length, 1, metadata.getETag());
+    }
+
+    @Override
+    public Optional<ObjectMetadata> head(String objectName) {
+        delay(headLatencyMs, 0);
+        StoredObject object = objects.get(objectName);
+        return object != null ? Optional.of(object.metadata) : Optional.empty();
+    }
+
+    private void delay(long baseMs, long bytes) {
+        long millis = baseMs;
+        if (jitterMs > 0) {
+            millis += ThreadLocalRandom.current().nextLong(-jitterMs, jitterMs + 1);
+        }
+        if (throughputMibPerSec > 0 && bytes > 0) {
+            millis += (long) (bytes / (throughputMibPerSec * 1024 * 1024) * 1000);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ObjectStorageException(503, "Interrupted");
+        }
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class StoredObject {
+        private final byte[] data;
+        private final ObjectMetadata metadata;
+
+        private StoredObject(byte[] data, ObjectMetadata metadata) {
+            this.data = data;
+            this.metadata = metadata;
+        }
+    }
+}
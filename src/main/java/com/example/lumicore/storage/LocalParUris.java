@@ -0,0 +1,25 @@
+package com.example.lumicore.storage;
+
+import com.example.lumicore.service.par.ParIssuer;
+import com.example.lumicore.service.par.ParSpec;
+import com.oracle.bmc.objectstorage.model.CreatePreauthenticatedRequestDetails.AccessType;
+
+import java.util.UUID;
+
+/**
+ * 로컬 어댑터용 가짜 PAR URI — OCI 와 같은 "/p/{token}/n/{ns}/b/{bucket}/o/{object}" 모양
+ */
+final class LocalParUris {
+
+    private LocalParUris() {
+    }
+
+    static String create(String baseUrl, ParSpec spec) {
+        String base = (baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl)
+                + "/p/" + UUID.randomUUID() + "/n/local/b/local/o/";
+        boolean anyObject = spec.getAccessType() == AccessType.AnyObjectRead
+                || spec.getAccessType() == AccessType.AnyObjectWrite
+                || spec.getAccessType() == AccessType.AnyObjectReadWrite;
+        return anyObject ? base : ParIssuer.objectUri(base, spec.getObjectName());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.lumicore.storage;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * get 결과 — 본문 스트림과 메타데이터
+ * notModified 이면 body 는 null, 부분 응답이면 rangeStart/rangeEnd 가 채워진다.
+ */
+@Value
+@Builder
+public class ObjectContent implements Closeable {
+
+    InputStream body;
+
+    ObjectMetadata metadata;
+
+    boolean notModified;
+
+    /** 부분 응답 구간 (양 끝 포함), 전체 응답이면 null */
+    Long rangeStart;
+    Long rangeEnd;
+
+    /** 이번 응답 본문 길이 */
+    long length;
+
+    public boolean isPartial() {
+        return rangeStart != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (body != null) {
+            body.close();
+        }
+    }
+}
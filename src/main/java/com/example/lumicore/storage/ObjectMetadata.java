@@ -0,0 +1,23 @@
+package com.example.lumicore.storage;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+@Value
+@Builder
+public class ObjectMetadata {
+
+    /** object 전체 크기 */
+    long contentLength;
+
+    String contentType;
+
+    String eTag;
+
+    /** base64 MD5 (OCI 의 opc-content-md5 와 같은 형식, 멀티파트 업로드면 null 일 수 있음) */
+    String contentMd5;
+
+    Date lastModified;
+}
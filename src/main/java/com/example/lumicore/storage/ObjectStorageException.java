@@ -0,0 +1,22 @@
+package com.example.lumicore.storage;
+
+import lombok.Getter;
+
+/**
+ * 저장소 구현과 무관하게 HTTP 상태 코드(404, 416, 429 …)로 실패 사유를 전달하는 예외
+ */
+@Getter
+public class ObjectStorageException extends RuntimeException {
+
+    private final int statusCode;
+
+    public ObjectStorageException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public ObjectStorageException(int statusCode, String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+}
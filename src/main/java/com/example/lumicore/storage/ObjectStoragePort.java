@@ -0,0 +1,40 @@
+package com.example.lumicore.storage;
+
+import com.example.lumicore.service.par.ParSpec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Object Storage 접근 포트
+ *
+ * 구현체는 app.objectstorage.adapter 값으로 선택한다.
+ * - oci (기본): OCI Object Storage
+ * - filesystem: 로컬 디렉터리 (NIO / 메모리 매핑 읽기)
+ * - memory: 프로세스 메모리 + 지연 주입 (벤치마크·부하 테스트용)
+ *
+ * 저장소 오류는 HTTP 상태 코드를 담은 ObjectStorageException 으로 전달한다.
+ */
+public interface ObjectStoragePort {
+
+    /** PAR 발급 — 전체 접근 URI 반환 (prefix PAR 이면 "…/o/" 로 끝나는 base URI) */
+    String createPar(ParSpec spec);
+
+    /** object 본문 스트림 (호출자가 close) */
+    default InputStream get(String objectName) throws IOException {
+        return get(objectName, null, null).getBody();
+    }
+
+    /**
+     * 부분·조건부 조회
+     * range 가 null 이면 전체, ifNoneMatch 가 현재 ETag 와 같으면 notModified 응답(본문 없음)
+     */
+    ObjectContent get(String objectName, ByteRange range, String ifNoneMatch) throws IOException;
+
+    /** body 를 끝까지 읽어 저장 — 구현체에 따라 멀티파트로 나뉠 수 있다 */
+    PutResult put(String objectName, InputStream body, long contentLength, String contentType) throws IOException;
+
+    /** object 가 없으면 empty */
+    Optional<ObjectMetadata> head(String objectName) throws IOException;
+}
@@ -0,0 +1,176 @@
+package com.example.lumicore.storage;
+
+import com.example.lumicore.service.par.ParSpec;
+import com.oracle.bmc.model.BmcException;
+import com.oracle.bmc.model.Range;
+import com.oracle.bmc.objectstorage.ObjectStorage;
+import com.oracle.bmc.objectstorage.model.CreatePreauthenticatedRequestDetails;
+import com.oracle.bmc.objectstorage.requests.CreatePreauthenticatedRequestRequest;
+import com.oracle.bmc.objectstorage.requests.GetObjectRequest;
+import com.oracle.bmc.objectstorage.requests.HeadObjectRequest;
+import com.oracle.bmc.objectstorage.requests.PutObjectRequest;
+import com.oracle.bmc.objectstorage.responses.GetObjectResponse;
+import com.oracle.bmc.objectstorage.responses.HeadObjectResponse;
+import com.oracle.bmc.objectstorage.transfer.UploadManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * OciObjectStorageConfig 의 ObjectStorage 클라이언트를 사용하는 기본 어댑터
+ *
+ * put 은 UploadManager 를 거치므로 app.upload.multipart-threshold-mib 이상이면
+ * 스트림을 part-size-mib 단위 파트로 나누어 병렬 멀티파트 업로드한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.objectstorage.adapter", havingValue = "oci", matchIfMissing = true)
+@RequiredArgsConstructor
+public class OciObjectStorageAdapter implements ObjectStoragePort {
+
+    private final ObjectStorage objectStorage;
+    private final UploadManager uploadManager;
+
+    @Value("${oci.objectstorage.namespace}")
+    private String namespaceName;
+
+    @Value("${oci.objectstorage.bucket}")
+    private String bucketName;
+
+    @Value("${oci.objectstorage.uri-prefix}")
+    private String uriPrefix;
+
+    @Value("${app.upload.part-size-mib:8}")
+    private long partSizeMib;
+
+    @Value("${app.upload.multipart-threshold-mib:8}")
+    private long multipartThresholdMib;
+
+    @Override
+    public String createPar(ParSpec spec) {
+        CreatePreauthenticatedRequestDetails details =
+                CreatePreauthenticatedRequestDetails.builder()
+                        .name(spec.getParName())
+                        .objectName(spec.getObjectName())
+                        .accessType(spec.getAccessType())
+                        .timeExpires(Date.from(spec.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant()))
+                        .build();
+
+        try {
+            String accessPath = objectStorage.createPreauthenticatedRequest(
+                            CreatePreauthenticatedRequestRequest.builder()
+                                    .namespaceName(namespaceName)
+                                    .bucketName(bucketName)
+                                    .createPreauthenticatedRequestDetails(details)
+                                    .build())
+                    .getPreauthenticatedRequest()
+                    .getAccessUri();
+            // accessPath 는 "/p/…/o/diary/파일명" 형태로 시작
+            return uriPrefix.endsWith("/")
+                    ? uriPrefix.substring(0, uriPrefix.length() - 1) + accessPath
+                    : uriPrefix + accessPath;
+        } catch (BmcException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public ObjectContent get(String objectName, ByteRange range, String ifNoneMatch) {
+        GetObjectResponse response;
+        try {
+            response = objectStorage.getObject(GetObjectRequest.builder()
+                    .namespaceName(namespaceName)
+                    .bucketName(bucketName)
+                    .objectName(objectName)
+                    .range(range != null ? new Range(range.getStart(), range.getEnd()) : null)
+                    .ifNoneMatch(ifNoneMatch)
+                    .build());
+        } catch (BmcException e) {
+            throw translate(e);
+        }
+
+        Range served = response.getContentRange();
+        long length = response.getContentLength() != null ? response.getContentLength() : 0;
+        ObjectMetadata metadata = ObjectMetadata.builder()
+                .contentLength(served != null && served.getContentLength() != null ? served.getContentLength() : length)
+                .contentType(response.getContentType())
+                .eTag(response.getETag())
+                .contentMd5(response.getContentMd5())
+                .lastModified(response.getLastModified())
+                .build();
+
+        return ObjectContent.builder()
+                .body(response.getInputStream())
+                .metadata(metadata)
+                .notModified(response.isNotModified())
+                .rangeStart(range != null && served != null ? served.getStartByte() : null)
+                .rangeEnd(range != null && served != null ? served.getEndByte() : null)
+                .length(length)
+                .build();
+    }
+
+    @Override
+    public PutResult put(String objectName, InputStream body, long contentLength, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .namespaceName(namespaceName)
+                .bucketName(bucketName)
+                .objectName(objectName)
+                .contentType(contentType)
+                .build();
+
+        UploadManager.UploadRequest upload = UploadManager.UploadRequest
+                .builder(body, contentLength)
+                .allowOverwrite(true)
+                .progressReporter((completed, total) ->
+                        log.trace("업로드 진행: objectName={}, {}/{} bytes", objectName, completed, total))
+                .build(request);
+
+        UploadManager.UploadResponse response;
+        try {
+            response = uploadManager.upload(upload);
+        } catch (BmcException e) {
+            throw translate(e);
+        }
+
+        long partSize = partSizeMib * 1024 * 1024;
+        boolean multipart = response.getMultipartMd5() != null
+                || contentLength >= multipartThresholdMib * 1024 * 1024;
+        int parts = multipart ? (int) ((contentLength + partSize - 1) / partSize) : 1;
+        return new PutResult(contentLength, parts, response.getETag());
+    }
+
+    @Override
+    public Optional<ObjectMetadata> head(String objectName) {
+        HeadObjectResponse response;
+        try {
+            response = objectStorage.headObject(HeadObjectRequest.builder()
+                    .namespaceName(namespaceName)
+                    .bucketName(bucketName)
+                    .objectName(objectName)
+                    .build());
+        } catch (BmcException e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw translate(e);
+        }
+        return Optional.of(ObjectMetadata.builder()
+                .contentLength(response.getContentLength() != null ? response.getContentLength() : 0)
+                .contentType(response.getContentType())
+                .eTag(response.getETag())
+                .contentMd5(response.getContentMd5())
+                .lastModified(response.getLastModified())
+                .build());
+    }
+
+    private ObjectStorageException translate(BmcException e) {
+        return new ObjectStorageException(e.getStatusCode(), e.getMessage(), e);
+    }
+}
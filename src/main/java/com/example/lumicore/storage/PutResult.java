@@ -0,0 +1,16 @@
+package com.example.lumicore.storage;
+
+import lombok.Value;
+
+/**
+ * put 결과 — 업로드 바이트 수와 파트 수 (단일 요청이면 1)
+ */
+@Value
+public class PutResult {
+
+    long bytes;
+
+    int parts;
+
+    String eTag;
+}
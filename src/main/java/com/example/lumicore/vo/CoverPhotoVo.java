@@ -0,0 +1,23 @@
+package com.example.lumicore.vo;
+
+import com.example.lumicore.jpa.entity.DiaryPhoto;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * 커버 URL 발급에 필요한 사진 키만 담은 VO
+ * - 엔티티를 로딩하지 않는 목록 조회(프로젝션)에서도 커버 URL 을 만들 수 있도록 분리
+ */
+@Value
+public class CoverPhotoVo {
+    UUID photoId;
+    UUID diaryId;
+    String objectKey;
+    String thumbnailKey;    // 생성 전이면 null
+
+    public static CoverPhotoVo of(DiaryPhoto photo) {
+        return new CoverPhotoVo(photo.getId(), photo.getDiary().getId(),
+                photo.getObjectKey(), photo.getThumbnailKey());
+    }
+}
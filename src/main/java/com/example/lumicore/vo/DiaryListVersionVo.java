@@ -0,0 +1,22 @@
+package com.example.lumicore.vo;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 사용자 다이어리 목록의 버전 (삭제되지 않은 다이어리 수, revision 합, 최신 작성 시각)
+ * - 목록에 보이는 다이어리가 추가·삭제·수정되면 셋 중 하나가 바뀐다
+ */
+@Value
+public class DiaryListVersionVo {
+    Long count;
+    Long revisionSum;
+    LocalDateTime lastCreatedAt;    // 다이어리가 없으면 null
+
+    public String fingerprint() {
+        long last = lastCreatedAt != null ? lastCreatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        return count + "." + revisionSum + "." + last;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.lumicore.vo;
+
+import com.example.lumicore.jpa.entity.EmotionTag;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 다이어리 목록 한 줄 (DiaryRepository 프로젝션 결과)
+ * - 첫 번째 사진이 없으면 photo* 필드는 null
+ * - 필드 순서는 JPQL 생성자 표현식과 일치해야 한다
+ */
+@Value
+public class DiaryListVo {
+    UUID diaryId;
+    LocalDateTime createdAt;
+    String overallDaySummary;
+    EmotionTag emotion;
+    UUID photoId;
+    String photoObjectKey;
+    String photoThumbnailKey;
+    Double latitude;
+    Double longitude;
+
+    public CoverPhotoVo toCoverPhoto() {
+        return photoId == null ? null : new CoverPhotoVo(photoId, diaryId, photoObjectKey, photoThumbnailKey);
+    }
+}
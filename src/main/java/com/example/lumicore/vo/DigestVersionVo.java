@@ -0,0 +1,18 @@
+package com.example.lumicore.vo;
+
+import lombok.Value;
+
+/**
+ * 다이제스트 상세의 버전 — 다이제스트 revision + 포함된 다이어리들의 revision 합
+ * (엔트리의 감정·사진·위치는 다이어리에서 읽으므로 다이어리 변경도 반영)
+ */
+@Value
+public class DigestVersionVo {
+    Long revision;
+    Long diaryRevisionSum;
+    Long entryCount;
+
+    public String fingerprint() {
+        return revision + "." + diaryRevisionSum + "." + entryCount;
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.lumicore.websocket;
 
+import com.example.lumicore.dto.readSession.ImageData;
 import com.example.lumicore.dto.readSession.ReadSessionResponse;
 import com.example.lumicore.service.ImageService;
 import com.example.lumicore.service.QueueService;
+import com.example.lumicore.service.dedup.PhotoDedupService;
+import com.example.lumicore.service.exif.ExifExtractionService;
+import com.example.lumicore.service.thumbnail.ThumbnailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.context.event.EventListener;
@@ -12,8 +17,11 @@ import org.springframework.web.socket.messaging.*;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -24,6 +32,16 @@ public class DiaryWebSocketHandler {
     private final SimpMessagingTemplate messagingTemplate;
     private final ImageService imageService;
     private final QueueService queueService;
+    private final ThumbnailService thumbnailService;
+    private final ExifExtractionService exifExtractionService;
+    private final PhotoDedupService photoDedupService;
+
+    /** true 면 dHash 비교를 위해 썸네일 생성을 기다린 뒤 중복 판별 */
+    @Value("${app.dedupe.perceptual:false}")
+    private boolean perceptualDedupe;
+
+    @Value("${app.dedupe.perceptual-wait-ms:3000}")
+    private long perceptualWaitMs;
 
     // 🌟 간소화: diaryId별 로컬 활성 세션만 관리
     private final Map<String, Boolean> localActiveSessions = new ConcurrentHashMap<>();
@@ -52,7 +70,26 @@ public class DiaryWebSocketHandler {
             // 🌟 자동으로 Queue 발행 수행 (VisionRequest 형식으로 변환됨)
             try {
                 UUID diaryUUID = UUID.fromString(diaryId);
+                // 촬영 시각·GPS 는 EXIF 헤더에서 먼저 채워 요청에 포함
+                exifExtractionService.extractForDiary(diaryUUID);
+
+                // 구독 시점 = 업로드 완료 → 목록용 썸네일 생성 (dHash 비교 시에만 완료를 기다림)
+                CompletableFuture<Void> thumbnails = thumbnailService.generateForDiary(diaryUUID);
+                if (perceptualDedupe) {
+                    try {
+                        thumbnails.get(perceptualWaitMs, TimeUnit.MILLISECONDS);
+                    } catch (Exception e) {
+                        log.debug("썸네일 대기 시간 초과: diaryId={}", diaryId);
+                    }
+                }
+
+                // 이미 분석된 사진과 같은 사진은 결과를 복사하고 요청에서 제외
+                Set<UUID> duplicates = photoDedupService.deduplicate(diaryUUID);
+
                 ReadSessionResponse dto = imageService.generateReadSession(diaryUUID);
+                // READ-PAR 발급에 실패한 사진은 분석 요청에서 제외
+                dto.getImages().removeIf(image -> image.getUrl() == null);
+                excludeDuplicates(dto, duplicates);
                 queueService.sendReadSession(dto);  // 내부적으로 VisionRequest 형식으로 변환됨
                 System.out.println("[WS DEBUG] Request Queue 발행 완료: " + diaryId);
                 log.info("📤 자동 Request Queue 발행 완료: diaryId={}, 이미지 수={}", 
@@ -64,6 +101,20 @@ public class DiaryWebSocketHandler {
         }
     }
 
+    /**
+     * 중복 사진 제외 — 질문·요약 생성을 위해 최소 1장은 남긴다.
+     */
+    private void excludeDuplicates(ReadSessionResponse dto, Set<UUID> duplicates) {
+        if (duplicates.isEmpty() || dto.getImages().isEmpty()) {
+            return;
+        }
+        ImageData first = dto.getImages().get(0);
+        dto.getImages().removeIf(image -> duplicates.contains(UUID.fromString(image.getId())));
+        if (dto.getImages().isEmpty()) {
+            dto.getImages().add(first);
+        }
+    }
+
     @EventListener
     public void handleUnsubscribeListener(SessionUnsubscribeEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
@@ -0,0 +1,19 @@
+-- =====================================================================
+-- V1_1: 기준 스키마 이후 추가된 테이블
+-- =====================================================================
+
+-- 레플리카 공유 READ-PAR 캐시
+CREATE TABLE par_cache (
+    object_key VARCHAR(700)  NOT NULL,
+    access_uri VARCHAR(2000) NOT NULL,
+    expires_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (object_key)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 스케줄 작업 임대 잠금 (fencing_token 은 V3)
+CREATE TABLE scheduler_lock (
+    name         VARCHAR(100) NOT NULL,
+    locked_by    VARCHAR(200) NOT NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
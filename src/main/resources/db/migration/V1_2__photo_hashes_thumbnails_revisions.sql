@@ -0,0 +1,16 @@
+-- =====================================================================
+-- V1_2: 기준 스키마 이후 추가된 컬럼
+--  - diary_photos: 썸네일 키, 재업로드 판별용 해시 (콘텐츠 SHA-256 / perceptual hash)
+--  - diaries, digests: 응답 ETag 용 revision
+-- =====================================================================
+
+ALTER TABLE diary_photos
+    ADD COLUMN thumbnail_key   VARCHAR(1000),
+    ADD COLUMN content_hash    VARCHAR(64),
+    ADD COLUMN perceptual_hash BIGINT,
+    ADD INDEX idx_diary_photos_content_hash (content_hash),
+    ADD INDEX idx_diary_photos_perceptual_hash (perceptual_hash);
+
+ALTER TABLE diaries ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE digests ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
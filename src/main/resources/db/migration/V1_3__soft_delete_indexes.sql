@@ -0,0 +1,12 @@
+-- =====================================================================
+-- V1_3: soft delete 필터(deleted_at is null) 를 포함한 조회용 복합 인덱스
+-- =====================================================================
+
+-- 사용자별 목록 (삭제 제외 + 최신순 keyset)
+CREATE INDEX idx_diaries_user_deleted_created ON diaries (user_id, deleted_at, created_at, id);
+
+-- 다이어리별 사진 (삭제 제외 + 생성순)
+CREATE INDEX idx_diary_photos_diary_deleted_created ON diary_photos (diary_id, deleted_at, created_at, id);
+
+-- 다이어리별 QA (삭제 제외)
+CREATE INDEX idx_diary_qa_diary_deleted ON diary_qa (diary_id, deleted_at);
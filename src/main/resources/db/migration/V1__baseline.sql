@@ -0,0 +1,87 @@
+-- =====================================================================
+-- V1: 기준 스키마 (Flyway 도입 전 ddl-auto: update 로 만들어져 운영 중인 스키마와 동일)
+--  - 기존 DB 는 baseline-on-migrate 로 이 버전까지 적용된 것으로 표시되고 실행되지 않는다
+--  - 이후 추가된 컬럼·테이블·인덱스는 V1_1 부터의 마이그레이션에 둔다 (여기에 추가 금지)
+--  - Spring Batch 메타 테이블(BATCH_*)은 spring.batch.jdbc.initialize-schema 가 관리
+-- =====================================================================
+
+CREATE TABLE diaries (
+    id                  BINARY(16)    NOT NULL,
+    user_id             BINARY(16),
+    emotion             ENUM ('HAPPY','JOY','NEUTRAL','ANGRY','SAD','GOOD'),
+    overall_day_summary VARCHAR(1000),
+    user_locale         VARCHAR(5)    NOT NULL DEFAULT 'ko',
+    created_at          TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at          DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE diary_photos (
+    id              BINARY(16)    NOT NULL,
+    diary_id        BINARY(16)    NOT NULL,
+    object_key      VARCHAR(1000) NOT NULL,
+    description     VARCHAR(1000),
+    captured_at     DATETIME(6),
+    latitude        DOUBLE,
+    longitude       DOUBLE,
+    created_at      TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_diary_photos_diary FOREIGN KEY (diary_id) REFERENCES diaries (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE diary_qa (
+    id          BINARY(16)    NOT NULL,
+    diary_id    BINARY(16)    NOT NULL,
+    ai_question VARCHAR(500)  NOT NULL,
+    user_answer VARCHAR(1000) NOT NULL,
+    created_at  TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_diary_qa_diary FOREIGN KEY (diary_id) REFERENCES diaries (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE landmark (
+    id         VARCHAR(100) NOT NULL,
+    name       VARCHAR(200) NOT NULL,
+    created_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE photo_landmark (
+    id          BINARY(16)   NOT NULL,
+    photo_id    BINARY(16)   NOT NULL,
+    landmark_id VARCHAR(100) NOT NULL,
+    created_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_photo_landmark_photo FOREIGN KEY (photo_id) REFERENCES diary_photos (id),
+    CONSTRAINT fk_photo_landmark_landmark FOREIGN KEY (landmark_id) REFERENCES landmark (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE digests (
+    id              BINARY(16)   NOT NULL,
+    user_id         BINARY(16),
+    period_start    DATE,
+    period_end      DATE,
+    title           VARCHAR(255),
+    overall_emotion VARCHAR(255),
+    activity        VARCHAR(1000),
+    emotion_trend   VARCHAR(1000),
+    special_moment  VARCHAR(1000),
+    digest_summary  VARCHAR(1000),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE digest_entries (
+    id            BINARY(16)    NOT NULL,
+    digest_id     BINARY(16)    NOT NULL,
+    diary_id      BINARY(16)    NOT NULL,
+    diary_summary VARCHAR(2000),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_digest_entries_digest_diary UNIQUE (digest_id, diary_id),
+    CONSTRAINT fk_digest_entries_digest FOREIGN KEY (digest_id) REFERENCES digests (id),
+    CONSTRAINT fk_digest_entries_diary FOREIGN KEY (diary_id) REFERENCES diaries (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
@@ -0,0 +1,14 @@
+-- =====================================================================
+-- V2: 조회 패턴별 인덱스
+--  - digest_entries(digest_id, diary_id) 는 V1 의 유니크 제약이 이미 인덱스 역할을 한다
+--  - FK 컬럼(diary_photos.diary_id, photo_landmark.* 등)은 InnoDB 가 FK 인덱스를 자동 생성
+-- =====================================================================
+
+-- findByUserIdAndCreatedAtBetween 및 삭제 필터를 끈 조회(배치/JDBC)의 기간 범위 스캔
+CREATE INDEX idx_diaries_user_created ON diaries (user_id, created_at);
+
+-- findAllByUserId (사용자별 다이제스트 목록)
+CREATE INDEX idx_digests_user_period ON digests (user_id, period_start);
+
+-- ParCacheEntryRepository.deleteExpiringBefore 의 만료 범위 삭제
+CREATE INDEX idx_par_cache_expires_at ON par_cache (expires_at);
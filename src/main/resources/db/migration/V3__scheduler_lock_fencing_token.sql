@@ -0,0 +1,6 @@
+-- =====================================================================
+-- V3: scheduler_lock fencing token
+--  - 잠금 소유자가 바뀔 때마다 1 증가, 이전 소유자의 늦은 쓰기 거부에 사용
+-- =====================================================================
+
+ALTER TABLE scheduler_lock ADD COLUMN fencing_token BIGINT NOT NULL DEFAULT 0;
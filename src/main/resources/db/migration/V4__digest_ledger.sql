@@ -0,0 +1,19 @@
+-- =====================================================================
+-- V4: 다이제스트 생성 이력 (사용자·기간·종류별 1행)
+-- =====================================================================
+
+CREATE TABLE digest_ledger (
+    id           BINARY(16)                                NOT NULL,
+    user_id      BINARY(16)                                NOT NULL,
+    period_start DATE                                      NOT NULL,
+    period_end   DATE                                      NOT NULL,
+    kind         ENUM ('WEEKLY','MONTHLY')                 NOT NULL,
+    status       ENUM ('REQUESTED','COMPLETED','FAILED')   NOT NULL,
+    digest_id    BINARY(16),
+    attempts     INT                                       NOT NULL DEFAULT 0,
+    last_error   VARCHAR(500),
+    requested_at DATETIME(6),
+    completed_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_digest_ledger_key UNIQUE (user_id, period_start, period_end, kind)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,83 @@
+package com.example.lumicore.jpa.repository;
+
+import com.example.lumicore.jpa.entity.Diary;
+import com.example.lumicore.jpa.entity.DiaryPhoto;
+import com.example.lumicore.jpa.entity.DiaryQA;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다이어리 상세 조회(findWithPhotosById → findWithQasById)가
+ * 사진·QA 개수와 무관하게 쿼리 2회로 끝나는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DiaryRepositoryFetchTest {
+
+    private static final int PHOTO_COUNT = 5;
+    private static final int QA_COUNT = 3;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private UUID diaryId;
+
+    @BeforeEach
+    void setUp() {
+        Diary diary = em.persist(Diary.builder().userId(UUID.randomUUID()).build());
+        for (int i = 0; i < PHOTO_COUNT; i++) {
+            em.persist(DiaryPhoto.of(diary, "diary/" + UUID.randomUUID() + "_" + i + ".jpg"));
+        }
+        for (int i = 0; i < QA_COUNT; i++) {
+            em.persist(DiaryQA.builder()
+                    .diary(diary)
+                    .aiQuestion("question-" + i)
+                    .userAnswer("answer-" + i)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        diaryId = diary.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void detailFetchUsesTwoQueries() {
+        Diary diary = diaryRepository.findWithPhotosById(diaryId).orElseThrow();
+        diaryRepository.findWithQasById(diaryId);
+
+        assertThat(Hibernate.isInitialized(diary.getPhotos())).isTrue();
+        assertThat(Hibernate.isInitialized(diary.getQas())).isTrue();
+        assertThat(diary.getPhotos()).hasSize(PHOTO_COUNT);
+        assertThat(diary.getQas()).hasSize(QA_COUNT);
+        diary.getPhotos().forEach(photo -> assertThat(photo.getObjectKey()).isNotNull());
+        diary.getQas().forEach(qa -> assertThat(qa.getAiQuestion()).isNotNull());
+
+        // findById + QA 조회 + 사진 조회를 반복하던 이전 경로는 5회 이상
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.lumicore.jpa.support;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 랜덤 v4 vs UUIDv7 기본키 INSERT 처리량 / InnoDB 인덱스 크기 비교
+ *
+ * 페이지 분할·인덱스 크기는 InnoDB 에서만 의미가 있으므로 실제 MySQL 을 지정했을 때만 실행한다.
+ *   mvn test -Dtest=TimeOrderedUuidInsertBenchmark \
+ *       -Dbenchmark.mysql.url="jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true" \
+ *       -Dbenchmark.mysql.username=... -Dbenchmark.mysql.password=... [-Dbenchmark.rows=200000]
+ * 테이블 구조는 diary_photos 와 같은 형태 (BINARY(16) PK + diary_id 보조 인덱스).
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+class TimeOrderedUuidInsertBenchmark {
+
+    private static final String RANDOM_TABLE = "bench_uuid_v4";
+    private static final String TIME_ORDERED_TABLE = "bench_uuid_v7";
+    private static final int BATCH_SIZE = 1000;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+    private Connection connection;
+
+    @BeforeEach
+    void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.mysql.url"),
+                System.getProperty("benchmark.mysql.username"),
+                System.getProperty("benchmark.mysql.password", ""));
+        connection.setAutoCommit(false);
+    }
+
+    @AfterEach
+    void dropTables() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + RANDOM_TABLE);
+            st.execute("DROP TABLE IF EXISTS " + TIME_ORDERED_TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Test
+    void compareInsertThroughputAndIndexSize() throws SQLException {
+        Result random = run(RANDOM_TABLE, UUID::randomUUID);
+        Result timeOrdered = run(TIME_ORDERED_TABLE, TimeOrderedUuidGenerator::nextV7);
+
+        log.info("rows={} | v4: {} rows/s, data={}KB, index={}KB | v7: {} rows/s, data={}KB, index={}KB",
+                rows,
+                random.rowsPerSecond(), random.dataBytes / 1024, random.indexBytes / 1024,
+                timeOrdered.rowsPerSecond(), timeOrdered.dataBytes / 1024, timeOrdered.indexBytes / 1024);
+
+        assertThat(random.rowCount).isEqualTo(rows);
+        assertThat(timeOrdered.rowCount).isEqualTo(rows);
+    }
+
+    private Result run(String table, Supplier<UUID> ids) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + table);
+            st.execute("CREATE TABLE " + table + " ("
+                    + " id BINARY(16) NOT NULL PRIMARY KEY,"
+                    + " diary_id BINARY(16) NOT NULL,"
+                    + " object_key VARCHAR(1000) NOT NULL,"
+                    + " created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,"
+                    + " KEY idx_" + table + "_diary (diary_id)"
+                    + ") ENGINE=InnoDB");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, diary_id, object_key, created_at) VALUES (?, ?, ?, ?)")) {
+            byte[] diaryId = toBytes(UUID.randomUUID());
+            for (int i = 1; i <= rows; i++) {
+                // 다이어리당 사진 20장 가정
+                if (i % 20 == 0) {
+                    diaryId = toBytes(UUID.randomUUID());
+                }
+                ps.setBytes(1, toBytes(ids.get()));
+                ps.setBytes(2, diaryId);
+                ps.setString(3, "diary/" + UUID.randomUUID() + "_" + i + ".jpg");
+                ps.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+                ps.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE TABLE " + table);
+            long rowCount;
+            try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                rs.next();
+                rowCount = rs.getLong(1);
+            }
+            try (ResultSet rs = st.executeQuery("SELECT data_length, index_length FROM information_schema.tables"
+                    + " WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                rs.next();
+                return new Result(rowCount, elapsedNanos, rs.getLong(1), rs.getLong(2));
+            }
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /** dataBytes: 클러스터드(PK) 인덱스, indexBytes: 보조 인덱스 */
+    @AllArgsConstructor
+    private static class Result {
+        private final long rowCount;
+        private final long elapsedNanos;
+        private final long dataBytes;
+        private final long indexBytes;
+
+        long rowsPerSecond() {
+            return rowCount * 1_000_000_000L / Math.max(elapsedNanos, 1);
+        }
+    }
+}
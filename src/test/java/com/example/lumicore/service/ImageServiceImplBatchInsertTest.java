@@ -0,0 +1,99 @@
+package com.example.lumicore.service;
+
+import com.example.lumicore.dto.uploadSession.UploadParRequest;
+import com.example.lumicore.dto.uploadSession.UploadSessionResponse;
+import com.example.lumicore.service.par.ParIssuer;
+import com.example.lumicore.service.par.ParResult;
+import com.example.lumicore.service.par.ReadParCache;
+import com.example.lumicore.storage.ObjectStoragePort;
+import com.oracle.bmc.queue.QueueClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 업로드 세션 생성 시 DiaryPhoto row 가 파일 수와 무관하게 한 번의 JDBC 배치로 저장되는지 검증
+ * (Diary INSERT 1 + DiaryPhoto 배치 INSERT 1)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ImageServiceImpl.class)
+class ImageServiceImplBatchInsertTest {
+
+    private static final int FILE_COUNT = 20;
+
+    @Autowired
+    private ImageServiceImpl imageService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private QueueClient queueClient;
+
+    @MockitoBean
+    private ReadParCache readParCache;
+
+    @MockitoBean
+    private ParIssuer parIssuer;
+
+    @MockitoBean
+    private SignedImageUrlService signedImageUrlService;
+
+    @MockitoBean
+    private ObjectStoragePort objectStorage;
+
+    @MockitoBean
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void twentyFileSessionIsPersistedWithTwoStatements() throws Exception {
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        given(parIssuer.issueAll(anyList())).willReturn(IntStream.range(0, FILE_COUNT)
+                .mapToObj(i -> ParResult.success("https://objectstorage.example/p/" + i, expiresAt))
+                .collect(Collectors.toList()));
+
+        UploadParRequest request = new UploadParRequest();
+        request.setFileNames(IntStream.range(0, FILE_COUNT)
+                .mapToObj(i -> "photo-" + i + ".jpg")
+                .collect(Collectors.toList()));
+
+        UploadSessionResponse response = imageService.startUploadSession(request);
+        em.flush();
+
+        assertThat(response.getDiaryId()).isNotNull();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(FILE_COUNT + 1);
+        // 파일별 INSERT 였다면 21
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
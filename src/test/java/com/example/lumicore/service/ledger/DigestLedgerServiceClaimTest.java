@@ -0,0 +1,102 @@
+package com.example.lumicore.service.ledger;
+
+import com.example.lumicore.jpa.entity.DigestLedger;
+import com.example.lumicore.jpa.repository.DigestLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인접한 user_id 구간을 동시에 claim 하는 파티션들이 서로 막히지 않고
+ * 각 사용자를 한 번씩만 선점하는지 검증 (파티션마다 별도 트랜잭션이므로 테스트 트랜잭션은 끈다)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DigestLedgerService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DigestLedgerServiceClaimTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 10, 5);
+    private static final LocalDate END = START.plusDays(6);
+    private static final int PARTITIONS = 4;
+    private static final int USERS_PER_PARTITION = 100;
+
+    @Autowired
+    private DigestLedgerService digestLedgerService;
+
+    @Autowired
+    private DigestLedgerRepository digestLedgerRepository;
+
+    @AfterEach
+    void cleanUp() {
+        digestLedgerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentClaimsOverAdjacentRangesClaimEachUserOnce() throws Exception {
+        // UserRangePartitioner 처럼 정렬된 user_id 를 인접 구간으로 나눈다
+        List<UUID> users = IntStream.range(0, PARTITIONS * USERS_PER_PARTITION)
+                .mapToObj(i -> UUID.randomUUID())
+                .sorted(Comparator.comparing(UUID::toString))
+                .collect(Collectors.toList());
+        List<List<UUID>> ranges = new ArrayList<>();
+        for (int p = 0; p < PARTITIONS; p++) {
+            ranges.add(users.subList(p * USERS_PER_PARTITION, (p + 1) * USERS_PER_PARTITION));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(PARTITIONS);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<List<UUID>>> results = new ArrayList<>();
+        try {
+            for (List<UUID> range : ranges) {
+                results.add(executor.submit(() -> {
+                    ready.await();
+                    return digestLedgerService.claim(range, START, END);
+                }));
+            }
+            ready.countDown();
+
+            List<UUID> claimed = new ArrayList<>();
+            for (int p = 0; p < PARTITIONS; p++) {
+                List<UUID> partition = results.get(p).get(30, TimeUnit.SECONDS);
+                assertThat(partition).containsExactlyInAnyOrderElementsOf(ranges.get(p));
+                claimed.addAll(partition);
+            }
+            assertThat(claimed).hasSize(users.size()).doesNotHaveDuplicates();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<DigestLedger> ledgers = digestLedgerRepository.findAll();
+        assertThat(ledgers).hasSize(users.size());
+        assertThat(ledgers).allSatisfy(ledger -> {
+            assertThat(ledger.getAttempts()).isEqualTo(1);
+            assertThat(ledger.getRequestedAt()).isNotNull();
+        });
+
+        // 응답 대기 중이므로 다시 claim 해도 보낼 대상이 없다
+        assertThat(digestLedgerService.claim(users, START, END)).isEmpty();
+    }
+}